@@ -0,0 +1,67 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**BatchEvaluationBenchmark Class
+  * Measures evaluating a batch of dealt hands: one hand at a time through
+  * calculateHandValue, and all at once through BatchHandEvaluator on its scalar
+  * and Vector API paths. The fork adds the incubator module so the vector path is taken.
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchEvaluationBenchmark {
+    @Param({"1024", "16384"})
+    int hands;
+
+    private BlackjackModel model;
+    private BlackjackModel.Card[][] cards;  // Each hand as Card views
+    private HandBatch batch;
+
+    @Setup
+    public void setUp() {
+        if (!BatchHandEvaluator.isVectorized()) {
+            throw new IllegalStateException("the Vector API is not available in this JVM");
+        }
+        model = new BlackjackModel(new SplittableRandom(42));
+        Shoe shoe = new Shoe(6, Shoe.DEFAULT_PENETRATION, new SplittableRandom(42));
+        SplittableRandom sizes = new SplittableRandom(7);
+        cards = new BlackjackModel.Card[hands][];
+        batch = new HandBatch(hands);
+        for (int i = 0; i < hands; i++) {
+            int index = batch.addHand();
+            cards[i] = new BlackjackModel.Card[2 + sizes.nextInt(3)];  // Two to four cards, as most hands end
+            for (int k = 0; k < cards[i].length; k++) {
+                byte code = shoe.draw();
+                cards[i][k] = BlackjackModel.Card.of(code);
+                batch.addCard(index, code);
+            }
+        }
+    }
+
+    @Benchmark
+    public void calculateHandValue(Blackhole blackhole) {
+        for (BlackjackModel.Card[] hand : cards) {
+            blackhole.consume(model.calculateHandValue(hand, hand.length));
+        }
+    }
+
+    @Benchmark
+    public HandBatch scalarBatch() {
+        BatchHandEvaluator.evaluateScalar(batch);
+        return batch;
+    }
+
+    @Benchmark
+    public HandBatch vectorBatch() {
+        BatchHandEvaluator.evaluate(batch);
+        return batch;
+    }
+}
@@ -0,0 +1,24 @@
+package blackjack;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**BenchmarkMain Class
+  * Runs the JMH benchmarks with the GC profiler always attached, so every result
+  * also reports bytes allocated per operation (gc.alloc.rate.norm).
+  * Accepts the usual JMH command line, e.g. {@code java -jar benchmarks/target/benchmarks.jar Round}
+  * @since  18/10/2026*/
+
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
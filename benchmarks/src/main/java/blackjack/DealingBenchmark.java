@@ -0,0 +1,39 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**DealingBenchmark Class
+  * Measures dealing cards from the shoe into the hands
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DealingBenchmark {
+    private Shoe shoe;
+    private BlackjackModel model;
+
+    @Setup
+    public void setUp() {
+        shoe = new Shoe(6, Shoe.DEFAULT_PENETRATION, new SplittableRandom(42));
+        model = new BlackjackModel(new Shoe(6, Shoe.DEFAULT_PENETRATION, new SplittableRandom(42)));
+    }
+
+    // A single card off the shoe, including the amortized reshuffle
+    @Benchmark
+    public byte drawCard() {
+        return shoe.draw();
+    }
+
+    // Clearing both hands and dealing the initial four cards
+    @Benchmark
+    public int dealInitialCards() {
+        model.newRound();
+        return model.getPlayerSum();
+    }
+}
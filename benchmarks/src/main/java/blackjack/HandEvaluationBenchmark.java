@@ -0,0 +1,76 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**HandEvaluationBenchmark Class
+  * Measures evaluating hard and soft hands, both through calculateHandValue
+  * over Card views and through the running totals kept by Hand
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluationBenchmark {
+    @Param({"hard", "soft"})
+    String kind;
+
+    private BlackjackModel model;
+    private BlackjackModel.Card[] cards;  // The hand as Card views
+    private byte[] codes;                 // The hand as encoded cards
+    private Hand hand;
+
+    @Setup
+    public void setUp() {
+        model = new BlackjackModel(new SplittableRandom(42));
+        if (kind.equals("hard")) {
+            // 10, 6, 5 = hard 21
+            codes = new byte[] {CardCode.encode(8, 0), CardCode.encode(4, 1), CardCode.encode(3, 2)};
+        } else {
+            // A, A, 6 = soft 18
+            codes = new byte[] {CardCode.encode(CardCode.ACE, 0), CardCode.encode(CardCode.ACE, 1), CardCode.encode(4, 2)};
+        }
+        cards = new BlackjackModel.Card[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            cards[i] = BlackjackModel.Card.of(codes[i]);
+        }
+        hand = new Hand(codes.length);
+        for (byte code : codes) {
+            hand.add(code);
+        }
+    }
+
+    @Benchmark
+    public int calculateHandValue() {
+        return model.calculateHandValue(cards, cards.length);
+    }
+
+    @Benchmark
+    public int cardGetValue() {
+        int sum = 0;
+        for (BlackjackModel.Card card : cards) {
+            sum += card.getValue();
+        }
+        return sum;
+    }
+
+    // Reading the running total of a hand already dealt
+    @Benchmark
+    public int handTotal() {
+        return hand.getTotal();
+    }
+
+    // Rebuilding the hand card by card, then reading its total
+    @Benchmark
+    public int handBuildAndTotal() {
+        hand.clear();
+        for (byte code : codes) {
+            hand.add(code);
+        }
+        return hand.getTotal();
+    }
+}
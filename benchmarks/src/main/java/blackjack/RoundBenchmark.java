@@ -0,0 +1,36 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**RoundBenchmark Class
+  * Measures complete rounds per second, from dealing the initial cards
+  * through the player's decisions and the dealer's draw to 17
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+    @Param({"1", "6"})
+    int decks;
+
+    private BlackjackSimulator simulator;
+    private BlackjackModel model;
+
+    @Setup
+    public void setUp() {
+        simulator = new BlackjackSimulator(PlayerStrategy.MIMIC_DEALER, decks, Shoe.DEFAULT_PENETRATION);
+        model = new BlackjackModel(new Shoe(decks, Shoe.DEFAULT_PENETRATION, new SplittableRandom(42)));
+    }
+
+    @Benchmark
+    public RoundOutcome playRound() {
+        model.newRound();
+        return simulator.playRound(model);
+    }
+}
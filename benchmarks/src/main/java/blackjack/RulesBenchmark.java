@@ -0,0 +1,72 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**RulesBenchmark Class
+  * Compares the dealer's draw through a table's resolved DealerRule with the loop the
+  * model hard-coded before rules were configurable (draw below 17), and measures whole
+  * rounds under each dealer rule. Each rule runs in its own fork, as a table would.
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+    @Param({"S17", "H17"})
+    String dealer;
+
+    private Shoe shoe;
+    private Hand hand;
+    private DealerRule rule;
+    private BlackjackSimulator simulator;
+    private BlackjackModel model;
+
+    @Setup
+    public void setUp() {
+        TableRules rules = TableRules.DEFAULT.withDecks(6).withHitSoft17(dealer.equals("H17"));
+        shoe = rules.newShoe(new SplittableRandom(42));
+        hand = new Hand(22);
+        rule = rules.getDealerRule();
+        simulator = new BlackjackSimulator(PlayerStrategy.MIMIC_DEALER, rules);
+        model = new BlackjackModel(rules.newShoe(new SplittableRandom(42)), rules, null);
+    }
+
+    // Deals a fresh two-card dealer hand, shuffling at the cut card as the model does
+    private void dealTwo() {
+        if (shoe.isCutCardReached()) {
+            shoe.shuffle();
+        }
+        hand.clear();
+        hand.add(shoe.draw());
+        hand.add(shoe.draw());
+    }
+
+    @Benchmark
+    public int hardCodedDealer() {
+        dealTwo();
+        while (hand.getTotal() < 17) {
+            hand.add(shoe.draw());
+        }
+        return hand.getTotal();
+    }
+
+    @Benchmark
+    public int ruleDealer() {
+        dealTwo();
+        while (rule.mustHit(hand.getTotal(), hand.isSoft())) {
+            hand.add(shoe.draw());
+        }
+        return hand.getTotal();
+    }
+
+    @Benchmark
+    public RoundOutcome playRound() {
+        model.newRound();
+        return simulator.playRound(model);
+    }
+}
@@ -0,0 +1,39 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**SeatedTableBenchmark Class
+  * Measures rounds per second of one table whose every seat is a bot playing basic
+  * strategy, all dealt from one six-deck shoe with the dealer playing once per round
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatedTableBenchmark {
+    @Param({"1", "3", "7"})
+    int seats;
+
+    private BlackjackTable table;
+
+    @Setup
+    public void setUp() {
+        TableRules rules = TableRules.DEFAULT.withDecks(6).withSeats(seats);
+        table = new BlackjackTable(rules.newShoe(new SplittableRandom(42)), rules, null);
+        BasicStrategy strategy = BasicStrategy.generate(rules);
+        for (int seat = 0; seat < seats; seat++) {
+            table.setBot(seat, strategy);
+        }
+    }
+
+    @Benchmark
+    public RoundOutcome playRound() {
+        table.deal();  // Plays every seat and the dealer
+        return table.getOutcome();
+    }
+}
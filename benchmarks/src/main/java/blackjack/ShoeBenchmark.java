@@ -0,0 +1,45 @@
+package blackjack;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.*;
+
+/**ShoeBenchmark Class
+  * Measures building and shuffling shoes of different sizes, with seeds from each ShuffleSource
+  * @since  18/10/2026*/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoeBenchmark {
+    @Param({"1", "6", "8"})
+    int decks;
+
+    @Param({"FAST", "SECURE_SEED"})
+    ShuffleSource source;
+
+    private RandomGenerator random;
+    private Shoe shoe;
+
+    @Setup
+    public void setUp() {
+        random = source.newGenerator();
+        shoe = new Shoe(decks, Shoe.DEFAULT_PENETRATION, random);
+    }
+
+    // Allocates, fills and shuffles a new shoe, as every round did before shoes were kept
+    @Benchmark
+    public Shoe buildAndShuffle() {
+        return new Shoe(decks, Shoe.DEFAULT_PENETRATION, random);
+    }
+
+    // Reshuffles an existing shoe in place, as happens when the cut card is reached
+    @Benchmark
+    public Shoe shuffle() {
+        shoe.shuffle();
+        return shoe;
+    }
+}
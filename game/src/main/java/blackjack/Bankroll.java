@@ -0,0 +1,98 @@
+package blackjack;
+
+/**Bankroll Class
+  * A player's money in integer minor units, with the running totals needed to report
+  * the house edge and the variance of the results. Everything is kept in longs, so
+  * recording a round neither allocates nor loses precision.
+  * @since  18/10/2026*/
+
+public class Bankroll {
+    private long balance;        // Money held, in minor units; may go negative when credit is allowed
+    private long lowest;         // Lowest balance reached
+    private long rounds;         // Rounds recorded
+    private long wagered;        // Sum of the initial bets of every round
+    private long net;            // Sum of the player's results
+    private long netSquared;     // Sum of the squared results, for the variance
+
+    /**
+     * @param balance the starting balance in minor units
+     */
+    public Bankroll(long balance) {
+        this.balance = balance;
+        this.lowest = balance;
+    }
+
+    /**
+     * Records a settled round.
+     *
+     * @param initialBet the bet placed before the cards were dealt
+     * @param result     the player's net result over every hand of the round
+     */
+    public void record(long initialBet, long result) {
+        balance += result;
+        if (balance < lowest) {
+            lowest = balance;
+        }
+        rounds++;
+        wagered += initialBet;
+        net += result;
+        netSquared += result * result;
+    }
+
+    /**
+     * Adds another bankroll's totals into this one, as when merging simulation partitions.
+     */
+    public void merge(Bankroll other) {
+        balance += other.balance;
+        lowest = Math.min(lowest, other.lowest);
+        rounds += other.rounds;
+        wagered += other.wagered;
+        net += other.net;
+        netSquared += other.netSquared;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public long getLowestBalance() {
+        return lowest;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getWagered() {
+        return wagered;
+    }
+
+    public long getNet() {
+        return net;
+    }
+
+    /**
+     * Returns the house edge: the share of the initial bets the player lost, negative if the player came out ahead.
+     */
+    public double getHouseEdge() {
+        return wagered == 0 ? 0 : -(double) net / wagered;
+    }
+
+    /**
+     * Returns the variance of one round's result in units of the average initial bet squared,
+     * which for flat betting is the usual per-hand variance (about 1.3 for basic strategy).
+     */
+    public double getVariance() {
+        if (rounds == 0) {
+            return 0;
+        }
+        double unit = (double) wagered / rounds;
+        double mean = (double) net / rounds;
+        return ((double) netSquared / rounds - mean * mean) / (unit * unit);
+    }
+
+    public String toString() {
+        return String.format("House edge: %.3f%%, variance: %.3f, standard deviation: %.3f units (%d rounds)",
+                             getHouseEdge() * 100, getVariance(), Math.sqrt(getVariance()), rounds);
+    }
+}
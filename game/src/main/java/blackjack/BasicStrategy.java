@@ -0,0 +1,378 @@
+package blackjack;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**BasicStrategy Class
+  * A basic-strategy engine backed by one flat table of precomputed decisions.
+  * A decision is a single array read indexed by (can double, hand kind, total, dealer upcard),
+  * where the hand kind is hard, soft or a splittable pair.
+  *
+  * The table is generated by expected-value computation against a table's rules: the
+  * dealer draws to 17, standing on or hitting soft 17 as the rules say, and there is no
+  * peek, so a dealer blackjack beats every player hand, including doubled and split ones.
+  * Player draws use the composition of a full shoe less the upcard (a total-dependent
+  * strategy), doubles are allowed on any two cards, and after splits if the rules allow
+  * it, and split Aces take one card each.
+  * @since  18/10/2026*/
+
+public class BasicStrategy implements PlayerStrategy {
+    private static final int MAGIC = 0x32534A42;  // "BJS2"; tables saved before the rules were, "BJBS", are regenerated
+
+    private static final int HARD = 0;
+    private static final int SOFT = 1;
+    private static final int PAIR = 2;
+    private static final int KINDS = 3;
+    private static final int ROWS = 22;           // Totals 0..21; pairs use the card value as row
+    private static final int UPCARDS = 10;        // Ace (1) to ten
+    private static final int TABLE_SIZE = 2 * KINDS * ROWS * UPCARDS;
+
+    private final byte[] table;  // Ordinal of the PlayerAction for each index
+
+    // Rules the table was generated for, which decide whether a saved table can be reused
+    private final int decks;
+    private final boolean hitSoft17;
+    private final boolean doubleAfterSplit;
+    private final boolean surrender;
+
+    private BasicStrategy(byte[] table, int decks, boolean hitSoft17, boolean doubleAfterSplit, boolean surrender) {
+        this.table = table;
+        this.decks = decks;
+        this.hitSoft17 = hitSoft17;
+        this.doubleAfterSplit = doubleAfterSplit;
+        this.surrender = surrender;
+    }
+
+    /**
+     * Decides what to do with a hand.
+     *
+     * @param total     the hand's best total
+     * @param soft      whether an Ace is counted as 11
+     * @param pairValue value of the paired cards (1 for Aces up to 10), or 0 if the hand is not a pair
+     * @param upcard    value of the dealer's upcard, 1 for an Ace up to 10
+     * @param canDouble whether doubling is allowed on this hand
+     * @param canSplit  whether splitting is allowed on this hand
+     * @return the best action
+     */
+    public PlayerAction decide(int total, boolean soft, int pairValue, int upcard, boolean canDouble, boolean canSplit) {
+        return PlayerAction.of(table[index(total, soft, canSplit ? pairValue : 0, upcard, canDouble)]);
+    }
+
+    /**
+     * Follows the table for the player's hand in the model, which supports hitting and standing only.
+     */
+    public boolean shouldHit(BlackjackModel model) {
+        Hand hand = model.getPlayerCards();
+        int upcard = CardCode.hardValue(model.getDealerCards().get(0));
+        return decide(hand.getTotal(), hand.isSoft(), 0, upcard, false, false) == PlayerAction.HIT;
+    }
+
+    /**
+     * Follows the table for a bot seat, splitting pairs where the table says to. The table
+     * does not double, so the no-double column is used.
+     */
+    @Override
+    public PlayerAction decide(BlackjackModel model) {
+        Hand hand = model.getPlayerCards();
+        int upcard = CardCode.hardValue(model.getDealerCards().get(0));
+        boolean canSplit = model.canSplit();
+        return decide(hand.getTotal(), hand.isSoft(), canSplit ? CardCode.hardValue(hand.get(0)) : 0, upcard, false, canSplit);
+    }
+
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Whether the table was generated for the given rules: the same shoe size, dealer rule,
+     * doubling after splits and surrender.
+     */
+    public boolean isFor(TableRules rules) {
+        return decks == rules.getDecks() && hitSoft17 == rules.isHitSoft17()
+            && doubleAfterSplit == rules.isDoubleAfterSplit() && surrender == rules.isSurrender();
+    }
+
+    private static int index(int total, boolean soft, int pairValue, int upcard, boolean canDouble) {
+        int kind = pairValue > 0 ? PAIR : soft ? SOFT : HARD;
+        int row = pairValue > 0 ? pairValue : total;
+        return (((canDouble ? KINDS : 0) + kind) * ROWS + row) * UPCARDS + upcard - 1;
+    }
+
+    /**
+     * Generates the table by expected-value computation for a shoe of the given size,
+     * under the default rules otherwise.
+     *
+     * @param decks number of decks in the shoe, from 1 to 8
+     * @return the generated strategy
+     */
+    public static BasicStrategy generate(int decks) {
+        return generate(TableRules.DEFAULT.withDecks(decks));
+    }
+
+    /**
+     * Generates the table by expected-value computation for the given rules.
+     *
+     * @param rules the table's rules
+     * @return the generated strategy
+     */
+    public static BasicStrategy generate(TableRules rules) {
+        int decks = rules.getDecks();
+        byte[] table = new byte[TABLE_SIZE];
+        DealerOdds dealerOdds = new DealerOdds(rules.getDealerRule());
+        double[] dealer = new double[DealerOdds.OUTCOMES];
+        int[] counts = new int[DealerOdds.VALUES];
+        double[] draw = new double[DealerOdds.VALUES];
+
+        for (int upcard = 1; upcard <= UPCARDS; upcard++) {
+            int cards = 0;
+            for (int v = 0; v < DealerOdds.VALUES; v++) {
+                counts[v] = decks * (v == 9 ? 16 : 4);
+            }
+            counts[upcard - 1]--;
+            for (int v = 0; v < DealerOdds.VALUES; v++) {
+                cards += counts[v];
+            }
+            for (int v = 0; v < DealerOdds.VALUES; v++) {
+                draw[v] = (double) counts[v] / cards;
+            }
+            dealerOdds.compute(upcard, counts, dealer);
+            HandEvaluator ev = new HandEvaluator(dealer, draw, rules.isDoubleAfterSplit());
+
+            for (int canDouble = 0; canDouble < 2; canDouble++) {
+                boolean doubling = canDouble == 1;
+                for (int total = 4; total <= 21; total++) {
+                    table[index(total, false, 0, upcard, doubling)] = (byte) ev.best(total, false, doubling).ordinal();
+                }
+                for (int total = 12; total <= 21; total++) {
+                    table[index(total, true, 0, upcard, doubling)] = (byte) ev.best(total - 10, true, doubling).ordinal();
+                }
+                for (int pair = 1; pair <= 10; pair++) {
+                    boolean aces = pair == 1;
+                    int hard = 2 * pair;
+                    PlayerAction action = ev.best(hard, aces, doubling);
+                    if (ev.split(pair) > ev.value(hard, aces, doubling)) {
+                        action = PlayerAction.SPLIT;
+                    }
+                    table[index(0, false, pair, upcard, doubling)] = (byte) action.ordinal();
+                }
+            }
+        }
+        return new BasicStrategy(table, decks, rules.isHitSoft17(), rules.isDoubleAfterSplit(), rules.isSurrender());
+    }
+
+    /**
+     * Expected values of player hands against one dealer upcard, with hands identified by
+     * their hard total (Aces as 1) and whether they hold an Ace.
+     */
+    private static class HandEvaluator {
+        private final double[] dealer;            // Dealer result distribution, as from DealerOdds
+        private final double[] draw;              // Probability of drawing each card value
+        private final boolean doubleAfterSplit;   // Whether split hands may be doubled
+        private final double[] hitOrStand = new double[32 * 2];  // Best EV without doubling, by state
+        private final boolean[] known = new boolean[32 * 2];
+
+        HandEvaluator(double[] dealer, double[] draw, boolean doubleAfterSplit) {
+            this.dealer = dealer;
+            this.draw = draw;
+            this.doubleAfterSplit = doubleAfterSplit;
+        }
+
+        // EV of standing on a hand, per unit bet
+        double stand(int hard, boolean ace) {
+            int total = total(hard, ace);
+            if (total > 21) {
+                return -1;
+            }
+            double ev = dealer[DealerOdds.BUST] - dealer[DealerOdds.BLACKJACK];
+            for (int t = 17; t <= 21; t++) {
+                double p = dealer[DealerOdds.TOTAL_17 + t - 17];
+                ev += total > t ? p : total < t ? -p : 0;
+            }
+            return ev;
+        }
+
+        // EV of taking one card and then playing on without doubling
+        double hit(int hard, boolean ace) {
+            double ev = 0;
+            for (int v = 0; v < DealerOdds.VALUES; v++) {
+                ev += draw[v] * hitOrStandValue(hard + v + 1, ace || v == 0);
+            }
+            return ev;
+        }
+
+        // EV of doubling: twice the bet on the hand after exactly one more card
+        double doubleDown(int hard, boolean ace) {
+            double ev = 0;
+            for (int v = 0; v < DealerOdds.VALUES; v++) {
+                ev += draw[v] * stand(hard + v + 1, ace || v == 0);
+            }
+            return 2 * ev;
+        }
+
+        // EV of splitting a pair into two hands, each drawing a second card; split Aces stand on it
+        double split(int pairValue) {
+            double ev = 0;
+            for (int v = 0; v < DealerOdds.VALUES; v++) {
+                int hard = pairValue + v + 1;
+                boolean ace = pairValue == 1 || v == 0;
+                ev += draw[v] * (pairValue == 1 ? stand(hard, ace) : value(hard, ace, doubleAfterSplit));
+            }
+            return 2 * ev;
+        }
+
+        // EV of the best of standing, hitting and (if allowed) doubling
+        double value(int hard, boolean ace, boolean canDouble) {
+            double ev = hitOrStandValue(hard, ace);
+            return canDouble ? Math.max(ev, doubleDown(hard, ace)) : ev;
+        }
+
+        PlayerAction best(int hard, boolean ace, boolean canDouble) {
+            double stand = stand(hard, ace);
+            double hit = total(hard, ace) >= 21 ? Double.NEGATIVE_INFINITY : hit(hard, ace);
+            PlayerAction action = hit > stand ? PlayerAction.HIT : PlayerAction.STAND;
+            if (canDouble && doubleDown(hard, ace) > Math.max(stand, hit)) {
+                action = PlayerAction.DOUBLE;
+            }
+            return action;
+        }
+
+        private double hitOrStandValue(int hard, boolean ace) {
+            if (hard > 21) {
+                return -1;
+            }
+            int state = hard * 2 + (ace ? 1 : 0);
+            if (!known[state]) {
+                double stand = stand(hard, ace);
+                hitOrStand[state] = total(hard, ace) >= 21 ? stand : Math.max(stand, hit(hard, ace));
+                known[state] = true;
+            }
+            return hitOrStand[state];
+        }
+
+        private static int total(int hard, boolean ace) {
+            return ace && hard <= 11 ? hard + 10 : hard;
+        }
+    }
+
+    /**
+     * Writes the table, with the rules it was generated for, so it can be reloaded at
+     * startup without regenerating it.
+     *
+     * @param file the file to write
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(decks);
+            out.writeBoolean(hitSoft17);
+            out.writeBoolean(doubleAfterSplit);
+            out.writeBoolean(surrender);
+            out.writeInt(table.length);
+            out.write(table);
+        }
+    }
+
+    /**
+     * Reads a table written by save().
+     *
+     * @param file the file to read
+     * @return the loaded strategy
+     */
+    public static BasicStrategy load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a basic strategy table: " + file);
+            }
+            int decks = in.readInt();
+            boolean hitSoft17 = in.readBoolean();
+            boolean doubleAfterSplit = in.readBoolean();
+            boolean surrender = in.readBoolean();
+            if (in.readInt() != TABLE_SIZE) {
+                throw new IOException("basic strategy table has the wrong size: " + file);
+            }
+            byte[] table = new byte[TABLE_SIZE];
+            in.readFully(table);
+            return new BasicStrategy(table, decks, hitSoft17, doubleAfterSplit, surrender);
+        }
+    }
+
+    /**
+     * Same as below, for a shoe of the given size under the default rules otherwise.
+     *
+     * @param file  where the table is kept
+     * @param decks number of decks in the shoe
+     * @return the strategy
+     */
+    public static BasicStrategy loadOrGenerate(Path file, int decks) {
+        return loadOrGenerate(file, TableRules.DEFAULT.withDecks(decks));
+    }
+
+    /**
+     * Loads the table from a file if it exists and was generated for the given rules (see
+     * isFor()), otherwise generates it and saves it there for the next start.
+     *
+     * @param file  where the table is kept
+     * @param rules the table's rules
+     * @return the strategy
+     */
+    public static BasicStrategy loadOrGenerate(Path file, TableRules rules) {
+        if (Files.exists(file)) {
+            try {
+                BasicStrategy strategy = load(file);
+                if (strategy.isFor(rules)) {
+                    return strategy;
+                }
+            } catch (IOException e) {
+                System.err.println("Error loading basic strategy table: " + e.getMessage());
+            }
+        }
+        BasicStrategy strategy = generate(rules);
+        try {
+            strategy.save(file);
+        } catch (IOException e) {
+            System.err.println("Error saving basic strategy table: " + e.getMessage());
+        }
+        return strategy;
+    }
+
+    /**
+     * Returns the table as a chart, one row per hand and one column per upcard,
+     * using S, H, D and P for stand, hit, double and split (doubling allowed).
+     */
+    public String toString() {
+        StringBuilder chart = new StringBuilder("       2 3 4 5 6 7 8 9 T A\n");
+        for (int total = 5; total <= 20; total++) {
+            appendRow(chart, String.format("%-6s", "H" + total), total, false, 0);
+        }
+        for (int total = 13; total <= 20; total++) {
+            appendRow(chart, String.format("%-6s", "S" + total), total, true, 0);
+        }
+        for (int pair = 2; pair <= 11; pair++) {
+            int value = pair == 11 ? 1 : pair;
+            appendRow(chart, String.format("%-6s", pair == 11 ? "A,A" : pair + "," + pair), 0, false, value);
+        }
+        return chart.toString();
+    }
+
+    private void appendRow(StringBuilder chart, String label, int total, boolean soft, int pairValue) {
+        chart.append(label);
+        for (int column = 0; column < UPCARDS; column++) {
+            int upcard = column == 9 ? 1 : column + 2;
+            chart.append(' ').append("SHDP".charAt(table[index(total, soft, pairValue, upcard, true)]));
+        }
+        chart.append('\n');
+    }
+
+    /**
+     * Generates the table for a shoe size and prints it as a chart.
+     *
+     * @param args optional number of decks
+     */
+    public static void main(String[] args) {
+        int decks = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+        System.out.print(generate(decks));
+    }
+}
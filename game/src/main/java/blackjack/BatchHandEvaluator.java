@@ -0,0 +1,88 @@
+package blackjack;
+
+import java.util.Arrays;
+
+/**BatchHandEvaluator Class
+  * Evaluates every hand of a HandBatch at once: best total, soft, bust and blackjack.
+  * When the JVM runs with --add-modules jdk.incubator.vector the work is done with the
+  * Vector API, a whole vector of hands per instruction; otherwise, or with
+  * -Dblackjack.vector=false, a scalar loop over the same arrays gives the same results.
+  * @since  18/10/2026*/
+
+public final class BatchHandEvaluator {
+    private static final boolean VECTORIZED = vectorAvailable();
+
+    private BatchHandEvaluator() {
+    }
+
+    /**
+     * Whether evaluate() uses the Vector API.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Evaluates every hand of the batch, vectorized when possible.
+     *
+     * @param batch the hands to evaluate; their totals and flags are written back to it
+     */
+    public static void evaluate(HandBatch batch) {
+        if (VECTORIZED) {
+            VectorHandKernel.evaluate(batch);
+        } else {
+            evaluateScalar(batch);
+        }
+    }
+
+    /**
+     * Evaluates every hand of the batch without the Vector API. Columns are summed a whole
+     * column at a time, so the loops read memory in order.
+     *
+     * @param batch the hands to evaluate; their totals and flags are written back to it
+     */
+    public static void evaluateScalar(HandBatch batch) {
+        int lanes = batch.lanes();
+        int columns = batch.columns();
+        byte[] hards = batch.totals;  // Hard totals, then Ace counts, are gathered in the output arrays
+        byte[] aceCounts = batch.flags;
+        Arrays.fill(hards, 0, lanes, (byte) 0);
+        Arrays.fill(aceCounts, 0, lanes, (byte) 0);
+        for (int k = 0; k < columns; k++) {
+            byte[] column = batch.values[k];
+            for (int i = 0; i < lanes; i++) {
+                int value = column[i];
+                hards[i] += value;
+                aceCounts[i] += isEqual(value, 1);
+            }
+        }
+        // Random hands defeat branch prediction, so every test is done with sign bits
+        for (int i = 0; i < lanes; i++) {
+            int hard = hards[i];
+            int soft = ((-aceCounts[i]) >>> 31) & ((hard - 12) >>> 31);  // An Ace, and a hard total up to 11
+            int total = hard + 10 * soft;
+            int bust = (21 - hard) >>> 31;
+            int blackjack = isEqual(batch.counts[i], 2) & isEqual(total, 21);
+            hards[i] = (byte) total;
+            aceCounts[i] = (byte) (soft * HandBatch.SOFT | bust * HandBatch.BUST | blackjack * HandBatch.BLACKJACK);
+        }
+    }
+
+    // 1 if two small non-negative values are equal, otherwise 0
+    private static int isEqual(int a, int b) {
+        return ((a ^ b) - 1) >>> 31;
+    }
+
+    // The kernel class is only loaded, and can only link, when the incubator module is present
+    private static boolean vectorAvailable() {
+        if (!Boolean.parseBoolean(System.getProperty("blackjack.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorHandKernel.fitsPadding();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
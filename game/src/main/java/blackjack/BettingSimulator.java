@@ -0,0 +1,174 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**BettingSimulator Class
+  * Plays flat-bet rounds with money on them and reports the house edge and variance of a
+  * table's rules (dealer rule, blackjack payout, surrender) and of taking insurance.
+  * The player follows BasicStrategy, doubling and splitting where it says so, with
+  * resplits up to the rules' number of hands. Like BlackjackSimulator it needs nothing
+  * beyond java.base.
+  * @since  18/10/2026*/
+
+public class BettingSimulator {
+    public static final long DEFAULT_BET = 1000;  // Flat bet in minor units, i.e. 10.00
+
+    private final BasicStrategy strategy;
+    private final TableRules rules;
+    private final Payouts payouts;     // The rules' payouts, kept at hand for the settlement
+    private final boolean surrender;   // Whether the player surrenders the worst hands
+    private final boolean insurance;   // Whether the player insures every hand against an Ace
+    private final Wager[] wagers;      // One per player hand, reused every round
+
+    /**
+     * @param strategy  the strategy for hitting, standing and doubling, generated for the same rules
+     * @param rules     the table's rules; where surrender is allowed, the player surrenders
+     *                  hard 16 against 9, 10 or Ace and hard 15 against 10
+     * @param insurance whether to take insurance whenever the dealer shows an Ace
+     */
+    public BettingSimulator(BasicStrategy strategy, TableRules rules, boolean insurance) {
+        this.strategy = strategy;
+        this.rules = rules;
+        this.payouts = rules.getPayouts();
+        this.surrender = rules.isSurrender();
+        this.insurance = insurance;
+        this.wagers = new Wager[rules.getMaxHands()];
+        for (int i = 0; i < wagers.length; i++) {
+            wagers[i] = new Wager();
+        }
+    }
+
+    /**
+     * Plays the given number of rounds at a flat bet from one shoe.
+     *
+     * @param rounds number of rounds to play
+     * @param bet    the bet of every round, in minor units
+     * @param random generator used for every shuffle of this run
+     * @return the bankroll, starting from 0, with the totals of the run
+     */
+    public Bankroll run(long rounds, long bet, RandomGenerator random) {
+        Bankroll bankroll = new Bankroll(0);
+        if (rounds > 0) {
+            BlackjackModel model = new BlackjackModel(rules.newShoe(random), rules, null);
+            for (long i = 0; i < rounds; i++) {
+                if (i > 0) {
+                    model.newRound();
+                }
+                bankroll.record(bet, playRound(model, bet));
+            }
+            model.publishMetrics();
+        }
+        return bankroll;
+    }
+
+    /**
+     * Plays a freshly dealt round with a bet on it.
+     *
+     * @param model a round with the initial cards dealt
+     * @param bet   the initial bet in minor units
+     * @return the player's net result in minor units
+     */
+    public long playRound(BlackjackModel model, long bet) {
+        Wager first = wagers[0];
+        first.place(bet);
+        Hand hand = model.getPlayerCards();
+        int upcard = CardCode.hardValue(model.getDealerCards().get(0));
+        if (insurance && upcard == 1) {
+            first.insure();
+        }
+
+        if (surrender && shouldSurrender(hand.getTotal(), hand.isSoft(), upcard)) {
+            first.surrender();
+            return payouts.settle(first, model.settle(), model.isDealerBlackjack());
+        }
+
+        do {
+            if (!model.isSplitAces()) {  // Split Aces stand on the one card nextHand() deals them
+                playHand(model, upcard);
+            }
+        } while (model.nextHand());
+        if (!model.isEveryHandDecided()) {  // A blackjack is paid without the dealer drawing
+            model.playDealerHand();
+        }
+        model.settle();
+
+        long net = 0;
+        boolean dealerBlackjack = model.isDealerBlackjack();
+        for (int i = 0; i < model.getHandCount(); i++) {
+            net += payouts.settle(wagers[i], model.determineOutcome(i), dealerBlackjack);
+        }
+        return net;
+    }
+
+    // Plays the hand being played until it stands, busts or doubles, splitting pairs where
+    // the strategy says so; each split puts the original stake on the new hand
+    private void playHand(BlackjackModel model, int upcard) {
+        Hand hand = model.getPlayerCards();
+        Wager wager = wagers[model.getActiveHand()];
+        while (hand.getTotal() < 21) {
+            boolean canSplit = model.canSplit();
+            boolean canDouble = hand.size() == 2 && (model.getHandCount() == 1 || rules.isDoubleAfterSplit());
+            int pairValue = canSplit ? CardCode.hardValue(hand.get(0)) : 0;
+            PlayerAction action = strategy.decide(hand.getTotal(), hand.isSoft(), pairValue, upcard, canDouble, canSplit);
+            if (action == PlayerAction.SPLIT) {
+                model.split();
+                wager.markSplit();
+                wagers[model.getHandCount() - 1].place(wager.getBet());
+                wagers[model.getHandCount() - 1].markSplit();
+                if (model.isSplitAces()) {
+                    return;
+                }
+            } else if (action == PlayerAction.DOUBLE) {
+                wager.doubleDown();
+                model.dealCardToPlayer();
+                return;
+            } else if (action == PlayerAction.HIT) {
+                model.dealCardToPlayer();
+            } else {
+                return;
+            }
+        }
+    }
+
+    // The usual late surrender chart; a surrender still loses the whole bet to a dealer blackjack
+    private static boolean shouldSurrender(int total, boolean soft, int upcard) {
+        if (soft) {
+            return false;
+        }
+        return (total == 16 && (upcard >= 9 || upcard == 1)) || (total == 15 && upcard == 10);
+    }
+
+    /**
+     * Reports the house edge and variance of each combination of dealer rule, blackjack
+     * payout and surrender, without and with insurance.
+     *
+     * @param args optional number of rounds per configuration, number of decks and seed
+     */
+    public static void main(String[] args) {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int decks = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        Payouts[] payouts = {Payouts.THREE_TO_TWO, Payouts.SIX_TO_FIVE};
+
+        System.out.println(rounds + " rounds per configuration, flat bet " + DEFAULT_BET);
+        System.out.println("Rules                                   Insurance  House edge  Variance  Hands/s");
+        for (int hitSoft17 = 0; hitSoft17 < 2; hitSoft17++) {
+            TableRules dealerRules = TableRules.DEFAULT.withDecks(decks).withHitSoft17(hitSoft17 == 1);
+            BasicStrategy strategy = BasicStrategy.generate(dealerRules);
+            for (Payouts payout : payouts) {
+                for (int surrender = 0; surrender < 2; surrender++) {
+                    TableRules rules = dealerRules.withPayouts(payout).withSurrender(surrender == 1);
+                    for (int insurance = 0; insurance < 2; insurance++) {
+                        BettingSimulator simulator = new BettingSimulator(strategy, rules, insurance == 1);
+                        long start = System.nanoTime();
+                        Bankroll bankroll = simulator.run(rounds, DEFAULT_BET, new SplittableRandom(seed));
+                        double seconds = (System.nanoTime() - start) / 1e9;
+                        System.out.printf("%-39s %-10s %9.3f%% %9.3f %8.0f%n", rules, insurance == 1 ? "yes" : "no",
+                                          bankroll.getHouseEdge() * 100, bankroll.getVariance(), rounds / seconds);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package blackjack;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.swing.*;
+
+/**  BlackJack
+*    lets users play a game of blackJack
+*    @since: 17/06/2024
+*    @author // Faizan, Momo, Aashier*/ 
+
+public class BlackJack {
+
+    // The one view and controller of the session, created with the first round and reused after
+    private static BlackjackView view;
+    private static BlackJackController controller;
+
+    // Rules of the session's table, set with system properties such as -Dblackjack.decks=6
+    // and -Dblackjack.h17=true (see TableRules.fromSystemProperties())
+    private static final TableRules rules = TableRules.fromSystemProperties().validate();
+
+    // Shoe shared by every round of the session
+    private static final Shoe shoe = rules.newShoe();
+
+    // Hi-Lo count of the shoe, shown over the table when started with -Dblackjack.count=true
+    private static final CardCounter cardCounter = Boolean.getBoolean("blackjack.count") ? new CardCounter(shoe, rules) : null;
+
+    // The session's table, whose model is dealt again in place every round
+    private static final BlackjackTable table = new BlackjackTable(shoe, rules, cardCounter);
+
+    // With several seats (-Dblackjack.seats=5), the seats listed in -Dblackjack.bots (from 1,
+    // e.g. 1,2,4,5) are bots playing basic strategy, and the rest are played from the view in
+    // turn; by default every seat but the first is a bot
+    static {
+        if (rules.getSeats() > 1) {
+            seatBots(System.getProperty("blackjack.bots"));
+        }
+    }
+
+    // Statistics of every round in the results file, shown under the status when started with
+    // -Dblackjack.stats=true and read again every -Dblackjack.stats.interval milliseconds
+    private static final long STATS_INTERVAL = Long.getLong("blackjack.stats.interval", 1000);
+
+    // Game flow control so the model stays free of Swing
+    private static int totalRounds;
+    private static int currentRound;
+
+    /**
+     * Starts a game lasting the given number of rounds.
+     *
+     * @param rounds the number of rounds to play before offering a new game
+     */
+    public static void startGame(int rounds) {
+        totalRounds = rounds;
+        currentRound = 1;
+        startNewRound();
+    }
+
+    /**
+     * Starts a new round of Blackjack.
+     * The first round creates the view and controller; later rounds show the same frame
+     * again and deal the next round on the same table.
+     */
+    public static void startNewRound() {
+        if (controller == null) {
+            view = new BlackjackView();
+            controller = new BlackJackController(table, view, new Runnable() {
+                @Override
+                public void run() {
+                    endRound();
+                }
+            });
+            if (Boolean.getBoolean("blackjack.stats")) {
+                followResults(view);
+            }
+        } else {
+            view.openFrame();
+            controller.nextRound();
+        }
+    }
+    
+    // Follows the results file on a background thread, showing its statistics whenever they change
+    private static void followResults(final BlackjackView shownIn) {
+        final GameResultStats stats = new GameResultStats(Paths.get(System.getProperty("blackjack.results", GameResultLog.DEFAULT_FILE)));
+        ScheduledExecutorService reader = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "result-stats");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        reader.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (stats.update()) {
+                        final String summary = stats.getSummary();
+                        SwingUtilities.invokeLater(new Runnable() {
+                            @Override
+                            public void run() {
+                                shownIn.setHistory(summary);
+                            }
+                        });
+                    }
+                } catch (IOException e) {
+                    System.err.println("Error reading the game results file: " + e.getMessage());
+                }
+            }
+        }, 0, STATS_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    // Gives the listed seats, or every seat but the first if null, to bots
+    private static void seatBots(String bots) {
+        PlayerStrategy strategy = BasicStrategy.generate(rules);
+        if (bots == null) {
+            for (int seat = 1; seat < rules.getSeats(); seat++) {
+                table.setBot(seat, strategy);
+            }
+            return;
+        }
+        for (String seat : bots.split(",")) {
+            if (seat.trim().isEmpty()) {
+                continue;
+            }
+            int number = Integer.parseInt(seat.trim());
+            if (number < 1 || number > rules.getSeats()) {
+                throw new IllegalArgumentException("blackjack.bots must list seats from 1 to " + rules.getSeats() + ": " + bots);
+            }
+            table.setBot(number - 1, strategy);
+        }
+    }
+
+    /**
+     * Returns the count of the session's shoe, or null if cards are not being counted.
+     */
+    public static CardCounter getCardCounter() {
+        return cardCounter;
+    }
+
+    // The session's table, for a headless start in StartupBenchmark
+    static BlackjackTable getTable() {
+        return table;
+    }
+
+    /**
+     * Starts a new game of Blackjack.
+     * This method closes the current view if one exists and opens the main screen.
+     */
+    public static void startNewGame() {
+        if (view != null) {
+            view.closeFrame();  // Close the current frame if it exists
+        }
+        
+        // Create and show the main screen
+        MainScreen mainScreen = new MainScreen();
+    }
+    
+    /**
+     * Ends the current round, asking the user whether to continue to the next one.
+     * The round's result has already been logged by the controller.
+     */
+    public static void endRound() {
+        if (currentRound < totalRounds) {
+            int option = JOptionPane.showConfirmDialog(null, "Do you want to continue to the next round?", "Next Round", JOptionPane.YES_NO_OPTION);
+            if (option == JOptionPane.YES_OPTION) {
+                currentRound++;
+                startNewRound();
+            } else {
+                showEndGameOptions();
+            }
+        } else {
+            showEndGameOptions();
+        }
+    }
+
+    private static void showEndGameOptions() {
+        int option = JOptionPane.showOptionDialog(null, "All rounds completed. What would you like to do?", "Game Over",
+                                                  JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE, null, new String[]{"Start New Game", "Exit"}, "Start New Game");
+        if (option == 0) {
+            startNewGame();
+        } else {
+            System.exit(0);
+        }
+    }
+
+    /**
+     * The main method that serves as the entry point for the application.
+     * It delegates to the mainScreen's main method to start the application.
+     * 
+     * @param args command line arguments passed to the application (not used here)
+     */
+    public static void main(String[] args) {
+        MainScreen.main(args);
+    }
+}
@@ -0,0 +1,254 @@
+package blackjack;
+
+import java.awt.event.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import javax.swing.SwingUtilities;
+
+/**Blackjack Controller Class
+  * The controller for blackjack
+  * @since  25/05/2023
+  * @author Momo*/
+
+public class BlackJackController {
+    private final BlackjackTable table;  // Round flow of the table and its model, kept for the whole session
+    private final BlackjackView view;    // View part of the MVC pattern, reused for every round
+    private final Runnable roundOver;    // Told on the event dispatch thread when a round is over
+    private final DealerOdds dealerOdds;                              // Live odds shown while the player decides
+    private final int[] unseenCards = new int[DealerOdds.VALUES];
+    private final double[] odds = new double[DealerOdds.OUTCOMES];
+
+    // Time the player takes to decide, and time taken to carry out each decision
+    private static final LatencyRecorder DECISION_TIME = MetricsRegistry.getDefault().latency("player.decision");
+    private static final LatencyRecorder HIT_TIME = MetricsRegistry.getDefault().latency("controller.hit");
+    private static final LatencyRecorder STAND_TIME = MetricsRegistry.getDefault().latency("controller.stand");
+    private static final LatencyRecorder SPLIT_TIME = MetricsRegistry.getDefault().latency("controller.split");
+    private long shownAt;  // When the player was last shown the table, from System.nanoTime()
+
+    // Single thread running the model, the dealer and the odds for every controller, so the
+    // event dispatch thread only paints and handles input
+    private static final ExecutorService GAME_THREAD = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "blackjack-game");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Constructor initializes the controller, configuring the listeners for the UI buttons
+     * once for the whole session, and deals the first round.
+     *
+     * @param table     the table whose rounds are played, dealt in place round after round
+     * @param view      the game view
+     * @param roundOver called on the event dispatch thread each time a round is over
+     */
+    public BlackJackController(BlackjackTable table, BlackjackView view, Runnable roundOver) {
+        this.table = table;
+        this.view = view;
+        this.roundOver = roundOver;
+        this.dealerOdds = new DealerOdds(table.getRules().getDealerRule());
+        view.setRules(table.getRules().toString());
+
+        // Add action listener for 'Hit' button
+        view.hitButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                playerHits();
+            }
+        });
+
+        // Add action listener for 'Stay' button
+        view.stayButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                dealerPlays();
+            }
+        });
+
+        // Add action listener for 'Split' button
+        view.splitButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                playerSplits();
+            }
+        });
+
+        // Add action listener for 'Exit' button
+        view.exitButton.addActionListener(new ActionListener() {
+             public void actionPerformed(ActionEvent e) {
+                  System.exit(0);  // Exit the application
+             }
+        });
+
+        // Add action listener for 'New Game' button
+        view.newGameButton.addActionListener(new ActionListener() {
+             public void actionPerformed(ActionEvent e) {
+                  BlackJack.startNewGame();  // Start a new game
+             }
+        });
+
+        nextRound();
+    }
+
+    /**
+     * Deals the next round on the same table and view, with the dealer's second card hidden.
+     * Bot seats before the first human one play on the game thread before it is shown; a
+     * table of bots only plays the whole round.
+     */
+    public void nextRound() {
+        setButtonsEnabled(false);
+        view.setStatus("");
+        GAME_THREAD.execute(new Runnable() {
+            @Override
+            public void run() {
+                table.deal();
+                final boolean over = table.isRoundOver();
+                publish(over, over ? table.getStatus() : null, null, 0);
+            }
+        });
+    }
+
+    /**
+     * Handles player's decision to hit (take another card).
+     * The card is dealt on the game thread and the view updated once it is done.
+     */
+    void playerHits() {
+        final long start = System.nanoTime();
+        DECISION_TIME.record(start - shownAt);
+        setButtonsEnabled(false);  // One decision at a time
+        GAME_THREAD.execute(new Runnable() {
+            @Override
+            public void run() {
+                table.hit();  // Deal another card to the player
+                final boolean over = table.isRoundOver();
+                publish(over, over ? table.getStatus() : null, HIT_TIME, start);
+            }
+        });
+    }
+
+    /**
+     * Handles player's decision to stay on the hand being played, on the game thread.
+     * Play moves on to the next hand, or seat, with any bot seats played in turn; after the
+     * last one the dealer plays by the Blackjack rules.
+     */
+    void dealerPlays() {
+        final long start = System.nanoTime();
+        DECISION_TIME.record(start - shownAt);
+        setButtonsEnabled(false);
+        GAME_THREAD.execute(new Runnable() {
+            @Override
+            public void run() {
+                table.stand();  // After the last hand the dealer hits until reaching at least 17, then the round is settled
+                final boolean over = table.isRoundOver();
+                publish(over, over ? table.getStatus() : null, STAND_TIME, start);
+            }
+        });
+    }
+
+    /**
+     * Handles player's decision to split a pair into two hands, played one after the other.
+     */
+    void playerSplits() {
+        final long start = System.nanoTime();
+        DECISION_TIME.record(start - shownAt);
+        setButtonsEnabled(false);
+        GAME_THREAD.execute(new Runnable() {
+            @Override
+            public void run() {
+                table.split();  // Split Aces take one card each, which ends the player's turn
+                final boolean over = table.isRoundOver();
+                publish(over, over ? table.getStatus() : null, SPLIT_TIME, start);
+            }
+        });
+    }
+
+    /**
+     * Copies the round out of the model on the game thread and hands it to the event
+     * dispatch thread, which shows it and, once the cards have been dealt, ends the round
+     * if it is over.
+     *
+     * @param over      whether the round is over, showing the dealer's hidden card
+     * @param status    the status to show, or null to leave it
+     * @param latency   where to record the time from the click to the view update, or null
+     * @param start     when the action started, from System.nanoTime()
+     */
+    private void publish(final boolean over, final String status, final LatencyRecorder latency, final long start) {
+        final BlackjackView.TableState state = captureState(over);
+        if (over) {
+            logHumanResults();
+        }
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                view.showTable(state);
+                Startup.firstDeal();
+                if (latency != null) {
+                    latency.recordSince(start);  // Before endRound(), which waits on the next-round dialog
+                }
+                shownAt = System.nanoTime();
+                if (over) {
+                    // The result is given once the dealer's cards are all on the table
+                    view.whenAnimated(new Runnable() {
+                        @Override
+                        public void run() {
+                            view.setStatus(status);
+                            endRound();
+                        }
+                    });
+                } else {
+                    if (status != null) {
+                        view.setStatus(status);
+                    }
+                    setButtonsEnabled(true);
+                    view.splitButton.setEnabled(state.canSplit);
+                }
+            }
+        });
+    }
+
+    /**
+     * Logs the results of the seats played by humans, or of every seat at a table of bots.
+     */
+    private void logHumanResults() {
+        BlackjackModel model = table.getModel();
+        boolean logged = false;
+        for (int seat = 0; seat < model.getSeatCount(); seat++) {
+            if (!table.isBot(seat)) {
+                model.logGameResult(seat);
+                logged = true;
+            }
+        }
+        if (!logged) {
+            model.logGameResult();
+        }
+    }
+
+    /**
+     * Ends the current round, leaving the buttons disabled with the dealer's hidden card shown.
+     */
+    private void endRound() {
+        roundOver.run();
+    }
+
+    private void setButtonsEnabled(boolean enabled) {
+        view.hitButton.setEnabled(enabled);
+        view.stayButton.setEnabled(enabled);
+        view.splitButton.setEnabled(enabled);
+    }
+
+    /**
+     * Takes what the view shows from the current state of the hands.
+     *
+     * @param showHiddenCard whether to show the dealer's hidden card
+     */
+    private BlackjackView.TableState captureState(boolean showHiddenCard) {
+        BlackjackModel model = table.getModel();
+        double[] shownOdds = null;
+        if (!showHiddenCard) {
+            dealerOdds.compute(model, unseenCards, odds);
+            shownOdds = odds;
+        }
+        CardCounter counter = BlackJack.getCardCounter();
+        return new BlackjackView.TableState(model, showHiddenCard, shownOdds, counter == null ? null : counter.getSummary());
+    }
+}
@@ -0,0 +1,602 @@
+package blackjack;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**BlackModelView Class
+  * The logic and model for blackjack
+  * @since  25/05/2023
+  * @author Aashir*/
+
+public class BlackjackModel {
+    // Thin view of an encoded card, kept for the UI and for calculateHandValue
+    public static class Card {
+        // One shared view per card code, so handing cards to the UI never allocates
+        private static final Card[] VIEWS = new Card[CardCode.DECK_SIZE];
+
+        static {
+            for (int code = 0; code < CardCode.DECK_SIZE; code++) {
+                VIEWS[code] = new Card((byte) code);
+            }
+        }
+
+        final byte code;     // The packed rank and suit of the card
+        String value;        // The face value of the card (e.g., "A", "2", ..., "K")
+        String type;         // The suit of the card (e.g., "H" for Hearts)
+        private final String imagePath;  // Path of the card's image, built once
+
+        // Constructor to initialize a card view from its code
+        private Card(byte code) {
+            this.code = code;
+            this.value = CardCode.RANK_NAMES[CardCode.rank(code)];
+            this.type = CardCode.SUIT_NAMES[CardCode.suit(code)];
+            this.imagePath = "/cards/" + value + "-" + type + ".png";
+        }
+
+        // Returns the shared view for an encoded card
+        public static Card of(byte code) {
+            return VIEWS[code];
+        }
+
+        // Returns a string representation of the card, combining value and type
+        public String toString() {
+            return value + "-" + type;
+        }
+
+        // Retrieves the numeric value of the card used in the game logic
+        public int getValue() {
+            return CardCode.value(code);  // Ace is worth 11 points, but can be 1 if necessary (handled later)
+        }
+
+        // Checks if the card is an Ace
+        public boolean isAce() {
+            return CardCode.isAce(code);
+        }
+
+        // Returns the encoded form of this card
+        public byte getCode() {
+            return code;
+        }
+
+        // Generates the path to the image for this card
+        public String getImagePath() {
+            return imagePath;
+        }
+    }
+
+    // Production metrics, looked up once: rounds, shuffles, outcomes by ordinal and result log latency.
+    // A model counts into plain fields of its own and adds them to the shared counters only every
+    // METRICS_BATCH rounds or when publishMetrics() is called, so simulations share nothing per round
+    private static final int METRICS_BATCH = 1024;
+    private static final LongAdder ROUNDS = MetricsRegistry.getDefault().counter("rounds.played");
+    private static final LongAdder SHUFFLES = MetricsRegistry.getDefault().counter("shoe.shuffles");
+    private static final LongAdder[] OUTCOMES = new LongAdder[RoundOutcome.values().length];
+    private static final LatencyRecorder LOG_LATENCY = MetricsRegistry.getDefault().latency("results.log");
+
+    static {
+        for (RoundOutcome outcome : RoundOutcome.values()) {
+            OUTCOMES[outcome.ordinal()] = MetricsRegistry.getDefault().counter("outcome." + outcome.name().toLowerCase());
+        }
+    }
+
+    private final Shoe shoe;       // Shoe the cards are dealt from, kept across rounds
+    private final TableRules rules;       // Rules the rounds are played under
+    private final DealerRule dealerRule;  // When the dealer draws, resolved from the table's rules
+    private long roundSeed;        // Shuffle seed of the shoe this round was dealt from
+    private int roundStart;        // Shoe position of the round's first card
+    private RoundEventListener events;  // Receives every event of the round, or null
+
+    // Counts not yet added to the shared metrics
+    private int unpublishedRounds;
+    private int unpublishedShuffles;
+    private final int[] unpublishedOutcomes = new int[RoundOutcome.values().length];
+
+    // Cards a hand holds before it has to grow, which few hands ever do
+    private static final int HAND_CAPACITY = 8;
+
+    // Hand dealt to the dealer, with running totals
+    private Hand dealerHand = new Hand(HAND_CAPACITY);
+
+    // Pool of player hands: the first handCount are in play this round, in the order they are
+    // played, each seat's hands together and the seats in order. Hands are cleared rather than
+    // dropped between rounds and the pool only grows, so splits stop allocating once a table
+    // has seen its deepest resplit
+    private Hand[] playerHands;
+    private int[] handSeats;             // Seat each hand of the pool belongs to
+    private final int seats;             // Seats dealt in, from the rules
+    private final int[] seatHandCounts;  // Hands each seat has in play, more than one after a split
+    private final boolean[] splitAces;   // Seats that split Aces this round: one card each, no resplits
+    private int handCount;               // Player hands in play, one per seat before any split
+    private int activeHand = 0;          // Index of the hand being played
+
+    // Constructor deals the first round from a fresh, shuffled single-deck shoe, seeded securely
+    public BlackjackModel() {
+        this(ShuffleSource.SECURE_SEED.newGenerator());
+    }
+
+    // Same as above, but shuffles with the given generator so the round can be reproduced.
+    // A model is not thread safe; give each thread its own generator (e.g. via SplittableRandom.split())
+    public BlackjackModel(RandomGenerator random) {
+        this(new Shoe(1, Shoe.DEFAULT_PENETRATION, random));
+    }
+
+    // Deals the first round from the given shoe, which may be shared with later models
+    public BlackjackModel(Shoe shoe) {
+        this(shoe, null);
+    }
+
+    // Same as above, reporting every event of every round, the first one included, to a listener
+    public BlackjackModel(Shoe shoe, RoundEventListener events) {
+        this(shoe, TableRules.DEFAULT, events, true);
+    }
+
+    // Same as above, with the dealer drawing and the player splitting by the given table rules
+    public BlackjackModel(Shoe shoe, TableRules rules, RoundEventListener events) {
+        this(shoe, rules, events, true);
+    }
+
+    // Used by the replayer to rebuild a round from its events instead of dealing one
+    BlackjackModel(Shoe shoe, TableRules rules, RoundEventListener events, boolean deal) {
+        this.shoe = shoe;
+        this.rules = rules;
+        this.dealerRule = rules.getDealerRule();
+        this.events = events;
+        this.seats = rules.getSeats();
+        this.playerHands = new Hand[seats];
+        this.handSeats = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            playerHands[seat] = new Hand(HAND_CAPACITY);
+            handSeats[seat] = seat;
+        }
+        this.seatHandCounts = new int[seats];
+        this.splitAces = new boolean[seats];
+        Arrays.fill(seatHandCounts, 1);
+        this.handCount = seats;
+        if (deal) {
+            startRound();
+        }
+    }
+
+    // Clears the hands and deals the next round, shuffling first if the cut card has come out
+    public void newRound() {
+        clearHands();
+        startRound();
+    }
+
+    // Empties the dealer's hand and the player hands in play, keeping them for reuse, and
+    // gives each seat one hand again
+    private void clearHands() {
+        for (int i = 0; i < handCount; i++) {
+            playerHands[i].clear();
+        }
+        dealerHand.clear();
+        for (int seat = 0; seat < seats; seat++) {
+            handSeats[seat] = seat;
+        }
+        Arrays.fill(seatHandCounts, 1);
+        Arrays.fill(splitAces, false);
+        handCount = seats;
+        activeHand = 0;
+    }
+
+    private void startRound() {
+        if (shoe.isCutCardReached()) {
+            shoe.shuffle();
+            unpublishedShuffles++;
+            emit(RoundEventType.SHUFFLE, shoe.getShuffleSeed(), 0);
+        }
+        if (++unpublishedRounds >= METRICS_BATCH) {
+            publishMetrics();
+        }
+        dealInitialCards();
+    }
+
+    // Adds the rounds, shuffles and outcomes counted since the last call to the shared metrics.
+    // Called every METRICS_BATCH rounds; call it when a table or a run finishes to publish the rest
+    public void publishMetrics() {
+        ROUNDS.add(unpublishedRounds);
+        SHUFFLES.add(unpublishedShuffles);
+        unpublishedRounds = 0;
+        unpublishedShuffles = 0;
+        for (int i = 0; i < unpublishedOutcomes.length; i++) {
+            if (unpublishedOutcomes[i] != 0) {
+                OUTCOMES[i].add(unpublishedOutcomes[i]);
+                unpublishedOutcomes[i] = 0;
+            }
+        }
+    }
+
+    // Sets the listener told about every following event, or null to stop reporting
+    public void setEventListener(RoundEventListener events) {
+        this.events = events;
+    }
+
+    public Shoe getShoe() {
+        return shoe;
+    }
+
+    public TableRules getRules() {
+        return rules;
+    }
+
+    public DealerRule getDealerRule() {
+        return dealerRule;
+    }
+
+    // The shuffle seed and shoe position together identify the cards of this round
+    public long getRoundSeed() {
+        return roundSeed;
+    }
+
+    public int getRoundStart() {
+        return roundStart;
+    }
+
+    // Deals the initial two cards to every seat and the dealer: a card to each seat in turn,
+    // then one to the dealer, twice. Each seat's card is reported with the seat as extra
+    private void dealInitialCards() {
+        shoe.startRound();
+        roundSeed = shoe.getShuffleSeed();
+        roundStart = shoe.getPosition();
+        emit(RoundEventType.ROUND_START, roundSeed, roundStart);
+        for (int card = 0; card < 2; card++) {
+            for (int seat = 0; seat < seats; seat++) {
+                playerHands[seat].add(draw(RoundEventType.PLAYER_CARD, seat));
+            }
+            dealerHand.add(draw(RoundEventType.DEALER_CARD, 0));
+        }
+    }
+
+    // Deals one card from the shoe to the hand being played
+    public void dealCardToPlayer() {
+        playerHands[activeHand].add(draw(RoundEventType.HIT, 0));
+    }
+
+    // Whether the hand being played can be split: a pair, with room for another hand of its
+    // seat under the rules, and not a hand of split Aces, which are never resplit
+    public boolean canSplit() {
+        int seat = handSeats[activeHand];
+        return !splitAces[seat] && seatHandCounts[seat] < rules.getMaxHands() && playerHands[activeHand].isPair();
+    }
+
+    // Splits the hand being played: its second card starts a new hand after the others of its
+    // seat and the hand being played draws a new second card. The new hand draws its second
+    // card when play reaches it (see nextHand()). Split Aces take one card each and must stand
+    public void split() {
+        if (!canSplit()) {
+            throw new IllegalStateException("the hand being played cannot be split");
+        }
+        Hand hand = playerHands[activeHand];
+        splitAces[handSeats[activeHand]] = CardCode.isAce(hand.get(0));
+        int index = addHand(hand.removeLast());
+        emit(RoundEventType.SPLIT, 0, index);
+        hand.add(draw(RoundEventType.PLAYER_CARD, 0));
+    }
+
+    // Finishes the hand being played and moves on to the next one, dealing its second card if
+    // it still only holds the card it was split with. Returns false once every hand is finished
+    public boolean nextHand() {
+        if (activeHand + 1 >= handCount) {
+            return false;
+        }
+        activeHand++;
+        emit(RoundEventType.NEXT_HAND, 0, activeHand);
+        Hand hand = playerHands[activeHand];
+        if (hand.size() == 1) {
+            hand.add(draw(RoundEventType.PLAYER_CARD, 0));
+        }
+        return true;
+    }
+
+    // Takes a spare hand from the pool, growing the pool if needed, starts it with a card and
+    // puts it after the last hand of the seat being played, moving the later seats' hands up.
+    // Returns its index, the last one at a table of one seat
+    private int addHand(byte card) {
+        int seat = handSeats[activeHand];
+        int index = activeHand + 1;
+        while (index < handCount && handSeats[index] == seat) {
+            index++;
+        }
+        if (handCount == playerHands.length) {
+            playerHands = Arrays.copyOf(playerHands, handCount + 1);
+            handSeats = Arrays.copyOf(handSeats, handCount + 1);
+            playerHands[handCount] = new Hand(HAND_CAPACITY);
+        }
+        Hand hand = playerHands[handCount];
+        System.arraycopy(playerHands, index, playerHands, index + 1, handCount - index);
+        System.arraycopy(handSeats, index, handSeats, index + 1, handCount - index);
+        playerHands[index] = hand;
+        handSeats[index] = seat;
+        hand.clear();
+        hand.add(card);
+        handCount++;
+        seatHandCounts[seat]++;
+        return index;
+    }
+
+    // Deals one card to the dealer from the shoe
+    public void dealCardToDealer() {
+        dealerHand.add(draw(RoundEventType.DEALER_DRAW, 0));
+    }
+
+    // Dealer must hit until reaching at least 17, and on soft 17 too if the rules say so
+    public void playDealerHand() {
+        emit(RoundEventType.STAND, 0, 0);
+        while (dealerRule.mustHit(dealerHand.getTotal(), dealerHand.isSoft())) {
+            dealCardToDealer();
+        }
+    }
+
+    // Settles every hand of every seat once both sides have finished drawing, reporting each
+    // outcome. Hands settle last to first, so the first hand's outcome, the one returned, comes last
+    public RoundOutcome settle() {
+        RoundOutcome outcome = null;
+        for (int i = handCount - 1; i >= 0; i--) {
+            outcome = determineOutcome(i);
+            unpublishedOutcomes[outcome.ordinal()]++;
+            emit(RoundEventType.SETTLE, i, outcome.ordinal());
+        }
+        return outcome;
+    }
+
+    // Draws a card from the shoe and reports it with the given extra, along with any
+    // reshuffle of the discards the draw caused
+    private byte draw(RoundEventType type, int extra) {
+        if (events == null) {
+            return shoe.draw();
+        }
+        long seed = shoe.getShuffleSeed();
+        byte card = shoe.draw();
+        if (shoe.getShuffleSeed() != seed) {
+            events.onEvent(RoundEventType.SHUFFLE, shoe.getShuffleSeed(), shoe.getCardsKept());
+        }
+        events.onEvent(type, card, extra);
+        return card;
+    }
+
+    private void emit(RoundEventType type, long value, int extra) {
+        if (events != null) {
+            events.onEvent(type, value, extra);
+        }
+    }
+
+    // Used by the replayer: starts an empty round dealt from the given shoe state
+    void restoreRoundStart(long seed, int start) {
+        clearHands();
+        roundSeed = seed;
+        roundStart = start;
+    }
+
+    // Used by the replayer: puts a card recorded in an event into a hand without drawing it
+    void restoreCard(boolean toPlayer, byte card) {
+        (toPlayer ? playerHands[activeHand] : dealerHand).add(card);
+    }
+
+    // Used by the replayer: puts a card of the initial deal into a seat's hand
+    void restoreDealtCard(int seat, byte card) {
+        playerHands[seat].add(card);
+    }
+
+    // Used by the replayer: splits the hand being played without drawing its new second card
+    void restoreSplit() {
+        Hand hand = playerHands[activeHand];
+        splitAces[handSeats[activeHand]] = CardCode.isAce(hand.get(0));
+        addHand(hand.removeLast());
+    }
+
+    // Used by the replayer: moves on to the given hand without drawing
+    void restoreNextHand(int index) {
+        activeHand = index;
+    }
+
+    // Calculates the total value of a hand, adjusting for Aces as necessary
+    public int calculateHandValue(Card[] hand, int handSize) {
+        int sum = 0;
+        int aceCount = 0;
+        for (int i = 0; i < handSize; i++) {
+            Card card = hand[i];
+            sum += card.getValue();
+            if (card.isAce()) {
+                aceCount++;
+            }
+        }
+        // Adjust for Aces when total exceeds 21
+        while (sum > 21 && aceCount > 0) {
+            sum -= 10;
+            aceCount--;
+        }
+        return sum;
+    }
+
+    // Getters for the sum of the player's hand being played and of the dealer's hand
+    public int getPlayerSum() {
+        return playerHands[activeHand].getTotal();
+    }
+
+    public int getDealerSum() {
+        return dealerHand.getTotal();
+    }
+
+    // Methods to check game state conditions, for the player's hand being played
+    public boolean isPlayerBusted() {
+        return playerHands[activeHand].isBusted();
+    }
+
+    // Whether every player hand of every seat is busted or a blackjack, which are settled
+    // without the dealer drawing
+    public boolean isEveryHandDecided() {
+        for (int i = 0; i < handCount; i++) {
+            if (!playerHands[i].isBusted() && !isBlackjack(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isDealerBusted() {
+        return dealerHand.isBusted();
+    }
+
+    // Whether the hand being played is a blackjack; two cards making 21 after a split are an
+    // ordinary 21, not a blackjack
+    public boolean isPlayerBlackjack() {
+        return isBlackjack(activeHand);
+    }
+
+    private boolean isBlackjack(int index) {
+        return seatHandCounts[handSeats[index]] == 1 && playerHands[index].isBlackjack();
+    }
+
+    public boolean isDealerBlackjack() {
+        return dealerHand.isBlackjack();
+    }
+
+    // Methods to retrieve copies of the player's hand being played and of the dealer's hand
+    public Card[] getPlayerHand() {
+        return toCards(playerHands[activeHand]);
+    }
+
+    public Card[] getDealerHand() {
+        return toCards(dealerHand);
+    }
+
+    private static Card[] toCards(Hand hand) {
+        Card[] cards = new Card[hand.size()];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.of(hand.get(i));
+        }
+        return cards;
+    }
+
+    // Live, allocation-free access to the hands; callers must not modify them
+    public Hand getPlayerCards() {
+        return playerHands[activeHand];
+    }
+
+    public Hand getPlayerCards(int index) {
+        if (index >= handCount) {
+            throw new IndexOutOfBoundsException("no player hand " + index + " of " + handCount);
+        }
+        return playerHands[index];
+    }
+
+    // Number of player hands in play, and the index of the one being played
+    public int getHandCount() {
+        return handCount;
+    }
+
+    public int getActiveHand() {
+        return activeHand;
+    }
+
+    // Whether the seat being played split Aces this round, leaving each of its hands with its one card
+    public boolean isSplitAces() {
+        return splitAces[handSeats[activeHand]];
+    }
+
+    // Number of seats dealt in, and the seat a hand belongs to
+    public int getSeatCount() {
+        return seats;
+    }
+
+    public int getSeat(int index) {
+        if (index >= handCount) {
+            throw new IndexOutOfBoundsException("no player hand " + index + " of " + handCount);
+        }
+        return handSeats[index];
+    }
+
+    // Seat of the hand being played
+    public int getActiveSeat() {
+        return handSeats[activeHand];
+    }
+
+    // Number of hands a seat has in play, more than one after it split
+    public int getSeatHandCount(int seat) {
+        return seatHandCounts[seat];
+    }
+
+    public Hand getDealerCards() {
+        return dealerHand;
+    }
+
+    // Returns the dealer's face-up card
+    public Card getDealerUpcard() {
+        return Card.of(dealerHand.get(0));
+    }
+
+    // Fills per-value counts (index 0 for Aces up to 9 for tens) of the cards the player
+    // cannot see: the rest of the shoe and, while the dealer has two cards, the hole card
+    public void countUnseen(int[] counts) {
+        Arrays.fill(counts, 0);
+        shoe.countRemaining(counts);
+        if (dealerHand.size() == 2) {
+            counts[CardCode.hardValue(dealerHand.get(1)) - 1]++;
+        }
+    }
+
+    // Outcome of the player's hand being played, the only one unless it was split
+    public RoundOutcome determineOutcome() {
+        return determineOutcome(activeHand);
+    }
+
+    // Settles a player hand once the player and dealer have finished drawing. A blackjack is
+    // settled on the dealer's first two cards alone: it pushes against a dealer blackjack and
+    // wins at the blackjack payout whatever the dealer draws for the other hands
+    public RoundOutcome determineOutcome(int index) {
+        Hand hand = getPlayerCards(index);
+        if (isBlackjack(index)) {
+            return isDealerBlackjack() ? RoundOutcome.PUSH : RoundOutcome.PLAYER_BLACKJACK;
+        }
+        if (hand.isBusted()) {
+            return RoundOutcome.PLAYER_BUST;
+        }
+        if (isDealerBusted()) {
+            return RoundOutcome.DEALER_BUST;
+        }
+        if (isDealerBlackjack()) {
+            return RoundOutcome.DEALER_BLACKJACK;
+        }
+        int playerSum = hand.getTotal();
+        int dealerSum = getDealerSum();
+        if (playerSum > dealerSum) {
+            return RoundOutcome.PLAYER_WIN;
+        } else if (dealerSum > playerSum) {
+            return RoundOutcome.DEALER_WIN;
+        }
+        return RoundOutcome.PUSH;
+    }
+
+    // Queues the game result for the background writer of the results file, a line per hand
+    public void logGameResult() {
+        long start = System.nanoTime();
+        for (int i = 0; i < handCount; i++) {
+            GameResultLog.getDefault().log(playerHands[i].getTotal(), dealerHand.getTotal());
+        }
+        LOG_LATENCY.recordSince(start);
+    }
+
+    // Same as above, for the hands of one seat only
+    public void logGameResult(int seat) {
+        long start = System.nanoTime();
+        for (int i = 0; i < handCount; i++) {
+            if (handSeats[i] == seat) {
+                GameResultLog.getDefault().log(playerHands[i].getTotal(), dealerHand.getTotal());
+            }
+        }
+        LOG_LATENCY.recordSince(start);
+    }
+
+    // Appends this round, with its cards, to a binary round log, a record per hand
+    public void logRound(RoundLogWriter log) {
+        for (int i = 0; i < handCount; i++) {
+            log.write(roundSeed, roundStart, playerHands[i], dealerHand, determineOutcome(i));
+        }
+    }
+
+    // Clears the game results file, after writing out any results still queued
+    public void clearGameResultsFile() {
+        GameResultLog.getDefault().clear();
+    }
+}
@@ -0,0 +1,169 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**BlackjackSimulator Class
+  * Plays rounds of blackjack without a user interface.
+  * Only the model is used, so the simulator runs without AWT or Swing, e.g.
+  * {@code java --limit-modules java.base -cp game/target/classes blackjack.BlackjackSimulator 1000000}
+  * @since  18/10/2026*/
+
+public class BlackjackSimulator {
+    // Where the command line keeps the generated basic strategy table between runs
+    private static final String BASIC_STRATEGY_FILE = "basic_strategy.bin";
+
+    private final PlayerStrategy strategy;  // Decides when the simulated player hits
+    private final TableRules rules;         // Rules of the table, including the shoe of each run
+    private RoundLogWriter roundLog;        // Optional binary log of every round played
+    private boolean countCards;             // Whether runs keep a card counter on their shoe
+    private CardCounter cardCounter;        // Counter of the last run, if counting
+
+    /**
+     * Simulates a single-deck shoe at the default penetration.
+     *
+     * @param strategy the strategy used for the player's decisions
+     */
+    public BlackjackSimulator(PlayerStrategy strategy) {
+        this(strategy, 1, Shoe.DEFAULT_PENETRATION);
+    }
+
+    /**
+     * @param strategy    the strategy used for the player's decisions
+     * @param decks       number of decks in the shoe, from 1 to 8
+     * @param penetration share of the shoe dealt before reshuffling
+     */
+    public BlackjackSimulator(PlayerStrategy strategy, int decks, double penetration) {
+        this(strategy, TableRules.DEFAULT.withDecks(decks).withPenetration(penetration));
+    }
+
+    /**
+     * @param strategy the strategy used for the player's decisions
+     * @param rules    the rules of the simulated table
+     */
+    public BlackjackSimulator(PlayerStrategy strategy, TableRules rules) {
+        this.strategy = strategy;
+        this.rules = rules;
+    }
+
+    /**
+     * Records every round played from now on, with its cards, in a binary round log.
+     *
+     * @param roundLog the log to append to, or null to stop logging
+     */
+    public void setRoundLog(RoundLogWriter roundLog) {
+        this.roundLog = roundLog;
+    }
+
+    /**
+     * Keeps a Hi-Lo count of every following run, available from getCardCounter().
+     *
+     * @param countCards whether to count cards
+     */
+    public void setCardCounting(boolean countCards) {
+        this.countCards = countCards;
+    }
+
+    /**
+     * Returns the card counter of the last run, with its results per true count,
+     * or null if cards were not being counted.
+     */
+    public CardCounter getCardCounter() {
+        return cardCounter;
+    }
+
+    /**
+     * Plays the given number of rounds and tallies their outcomes.
+     *
+     * @param rounds number of rounds to play
+     * @return the counts and throughput of the run
+     */
+    public SimulationResult run(long rounds) {
+        return run(rounds, new SplittableRandom());
+    }
+
+    /**
+     * Plays the given number of rounds from one shoe, shuffling with the given generator.
+     * The same generator state always produces the same results.
+     *
+     * @param rounds number of rounds to play
+     * @param random generator used for every shuffle of this run; not shared with other threads
+     * @return the counts and throughput of the run
+     */
+    public SimulationResult run(long rounds, RandomGenerator random) {
+        SimulationResult result = new SimulationResult();
+        long start = System.nanoTime();
+        if (rounds > 0) {
+            Shoe shoe = rules.newShoe(random);
+            cardCounter = countCards ? new CardCounter(shoe, rules) : null;
+            BlackjackModel model = new BlackjackModel(shoe, rules, cardCounter);
+            for (long i = 0; i < rounds; i++) {
+                if (i > 0) {
+                    model.newRound();
+                }
+                result.record(playRound(model));
+                if (roundLog != null) {
+                    model.logRound(roundLog);
+                }
+            }
+            model.publishMetrics();
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays a freshly dealt round to completion using the same rules as the controller:
+     * the player draws until standing or busting, then the dealer draws by the table's rules.
+     *
+     * @param model a round with the initial cards dealt
+     * @return the outcome of the round
+     */
+    public RoundOutcome playRound(BlackjackModel model) {
+        while (model.getPlayerSum() < 21 && strategy.shouldHit(model)) {
+            model.dealCardToPlayer();
+        }
+        if (!model.isEveryHandDecided()) {  // A bust or a blackjack is settled without the dealer drawing
+            model.playDealerHand();
+        }
+        return model.settle();
+    }
+
+    /**
+     * Runs a simulation from the command line.
+     *
+     * @param args optional number of rounds, strategy ("dealer", "stand" or "basic"), number of decks
+     *             and round log file; the other rules are read from system properties as in
+     *             TableRules.fromSystemProperties(), and -Dblackjack.count=true also prints the
+     *             results per true count
+     */
+    public static void main(String[] args) throws IOException {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        TableRules rules = TableRules.fromSystemProperties().withSeats(1);  // One hand is played per round
+        if (args.length > 2) {
+            rules = rules.withDecks(Integer.parseInt(args[2]));
+        }
+        rules.validate();
+        PlayerStrategy strategy = PlayerStrategy.MIMIC_DEALER;
+        if (args.length > 1 && args[1].equals("stand")) {
+            strategy = PlayerStrategy.ALWAYS_STAND;
+        } else if (args.length > 1 && args[1].equals("basic")) {
+            strategy = BasicStrategy.loadOrGenerate(Paths.get(BASIC_STRATEGY_FILE), rules);
+        }
+        BlackjackSimulator simulator = new BlackjackSimulator(strategy, rules);
+        simulator.setCardCounting(Boolean.getBoolean("blackjack.count"));
+        if (args.length > 3) {
+            try (RoundLogWriter roundLog = new RoundLogWriter(Paths.get(args[3]))) {
+                simulator.setRoundLog(roundLog);
+                System.out.println(simulator.run(rounds));
+            }
+        } else {
+            System.out.println(simulator.run(rounds));
+        }
+        if (simulator.getCardCounter() != null) {
+            System.out.print(simulator.getCardCounter());
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package blackjack;
+
+/**BlackjackTable Class
+  * The round flow of one table, independent of any user interface: deal, let the
+  * player hit, stand or split each hand in turn, let the dealer play, and settle.
+  * Each table owns its own
+  * model and shoe, so any number of tables can run side by side, one thread each.
+  *
+  * A table has as many seats as its rules say, all dealt from the one shoe and played in
+  * order, and the dealer plays once for all of them. A seat is human unless given a bot's
+  * strategy with setBot(); the table plays bot seats itself whenever their turn comes, on
+  * the calling thread, so each call returns with a human seat to act or the round over.
+  * @since  18/10/2026*/
+
+public class BlackjackTable {
+    private final Shoe shoe;          // Shoe kept across the table's rounds
+    private final TableRules rules;   // Rules the table's rounds are played under
+    private RoundEventListener events;  // Told about every event of the table's rounds, or null
+    private BlackjackModel model;     // Current round, null before the first deal
+    private RoundOutcome outcome;     // Result of the current round once it is over
+    private final PlayerStrategy[] bots;  // Strategy of each seat the table plays itself, null for a human seat
+
+    /**
+     * Opens a table dealing from the given shoe. No round is dealt until deal() is called.
+     *
+     * @param shoe the table's shoe
+     */
+    public BlackjackTable(Shoe shoe) {
+        this(shoe, null);
+    }
+
+    /**
+     * Opens a table whose rounds report every event, for example to a TableEventLog.
+     *
+     * @param shoe   the table's shoe
+     * @param events the listener told about every event, or null
+     */
+    public BlackjackTable(Shoe shoe, RoundEventListener events) {
+        this(shoe, TableRules.DEFAULT, events);
+    }
+
+    /**
+     * Opens a table playing under the given rules, with a new shoe of the rules' size.
+     *
+     * @param rules  the table's rules
+     * @param events the listener told about every event, or null
+     */
+    public BlackjackTable(TableRules rules, RoundEventListener events) {
+        this(rules.newShoe(), rules, events);
+    }
+
+    /**
+     * Opens a table playing under the given rules from the given shoe.
+     *
+     * @param shoe   the table's shoe
+     * @param rules  the table's rules; the shoe's size and penetration take precedence over theirs
+     * @param events the listener told about every event, or null
+     */
+    public BlackjackTable(Shoe shoe, TableRules rules, RoundEventListener events) {
+        this.shoe = shoe;
+        this.rules = rules;
+        this.events = events;
+        this.bots = new PlayerStrategy[rules.getSeats()];
+    }
+
+    /**
+     * Opens a table around a round that has already been dealt.
+     *
+     * @param model the round in progress
+     */
+    public BlackjackTable(BlackjackModel model) {
+        this.shoe = model.getShoe();
+        this.rules = model.getRules();
+        this.model = model;
+        this.bots = new PlayerStrategy[rules.getSeats()];
+    }
+
+    /**
+     * Has the table play a seat with the given strategy, or a human play it if null. Takes
+     * effect from the seat's next turn, so set bots between rounds.
+     *
+     * @param seat     the seat, from 0
+     * @param strategy the bot's strategy, or null for a human seat
+     */
+    public void setBot(int seat, PlayerStrategy strategy) {
+        bots[seat] = strategy;
+    }
+
+    public boolean isBot(int seat) {
+        return bots[seat] != null;
+    }
+
+    /**
+     * Deals a new round, reusing the model of the previous one, and plays the bot seats
+     * before the first human one.
+     */
+    public void deal() {
+        if (model == null) {
+            model = new BlackjackModel(shoe, rules, events);
+        } else {
+            model.newRound();
+        }
+        outcome = null;
+        skipBlackjacks();
+        playBots();
+    }
+
+    /**
+     * Deals another card to the hand being played, finishing the hand if it busts.
+     */
+    public void hit() {
+        checkInProgress();
+        takeCard();
+        playBots();
+    }
+
+    private void takeCard() {
+        if (model.isSplitAces()) {
+            throw new IllegalStateException("split Aces take one card each");
+        }
+        model.dealCardToPlayer();
+        if (model.isPlayerBusted()) {
+            finishHand();
+        }
+    }
+
+    /**
+     * Finishes the hand being played. After the last hand the dealer draws to 17 and
+     * the round is settled.
+     */
+    public void stand() {
+        checkInProgress();
+        finishHand();
+        playBots();
+    }
+
+    /**
+     * Splits the hand being played into two, which are then played one after the other.
+     * Split Aces take one card each, so splitting them finishes the seat's turn.
+     *
+     * @throws IllegalStateException if the hand is not a pair or the rules allow no more hands
+     */
+    public void split() {
+        checkInProgress();
+        splitHand();
+        playBots();
+    }
+
+    private void splitHand() {
+        model.split();
+        if (model.isSplitAces()) {
+            int seat = model.getActiveSeat();
+            boolean more;
+            do {
+                more = model.nextHand();  // Each hand of split Aces gets its second card and stands
+            } while (more && model.getActiveSeat() == seat);
+            if (!more) {
+                finishRound();
+            } else {
+                skipBlackjacks();
+            }
+        }
+    }
+
+    // Plays the bot seats whose turn it is, until a human seat is to act or the round is over;
+    // also called on a resumed table, whose round may be waiting on a bot
+    void playBots() {
+        while (model != null && outcome == null) {
+            PlayerStrategy bot = bots[model.getActiveSeat()];
+            if (bot == null) {
+                return;
+            }
+            switch (bot.decide(model)) {
+                case HIT:
+                    takeCard();
+                    break;
+                case DOUBLE:
+                    // The table takes no bets, so a double is its one card, after which the hand is done
+                    model.dealCardToPlayer();
+                    finishHand();
+                    break;
+                case SPLIT:
+                    splitHand();
+                    break;
+                default:
+                    finishHand();
+                    break;
+            }
+        }
+    }
+
+    public boolean canSplit() {
+        return model != null && outcome == null && model.canSplit();
+    }
+
+    // Moves on to the next hand, or ends the player's turn after the last one
+    private void finishHand() {
+        if (model.nextHand()) {
+            skipBlackjacks();
+        } else {
+            finishRound();
+        }
+    }
+
+    // A blackjack is settled on the deal, so its seat has no turn; moves past it, ending the
+    // round if no hand is left to play
+    private void skipBlackjacks() {
+        while (model.isPlayerBlackjack()) {
+            if (!model.nextHand()) {
+                finishRound();
+                return;
+            }
+        }
+    }
+
+    // The dealer draws once for every seat unless every player hand is busted or a blackjack,
+    // then every hand is settled. Tables play at the pace of their players, so each round is
+    // published to the metrics as it ends
+    private void finishRound() {
+        if (!model.isEveryHandDecided()) {
+            model.playDealerHand();
+        }
+        outcome = model.settle();
+        model.publishMetrics();
+    }
+
+    /**
+     * Sets the listener told about every following event, or null to stop reporting.
+     */
+    public void setEventListener(RoundEventListener events) {
+        this.events = events;
+        if (model != null) {
+            model.setEventListener(events);
+        }
+    }
+
+    public Shoe getShoe() {
+        return shoe;
+    }
+
+    public TableRules getRules() {
+        return rules;
+    }
+
+    public boolean isRoundOver() {
+        return outcome != null;
+    }
+
+    // Result of the round's first hand, or null while the round is still being played
+    public RoundOutcome getOutcome() {
+        return outcome;
+    }
+
+    public BlackjackModel getModel() {
+        return model;
+    }
+
+    /**
+     * Describes the result of the round for the status bar, hand by hand after a split. At a
+     * table of several seats each hand is named by its seat, and only human seats are
+     * described unless every seat is a bot.
+     */
+    public String getStatus() {
+        if (outcome == null) {
+            return "";
+        }
+        if (model.getSeatCount() == 1) {
+            if (model.getHandCount() == 1) {
+                return describe(outcome);
+            }
+            StringBuilder status = new StringBuilder();
+            for (int i = 0; i < model.getHandCount(); i++) {
+                status.append(i == 0 ? "" : "  ").append("Hand ").append(i + 1).append(": ")
+                      .append(describe(model.determineOutcome(i)));
+            }
+            return status.toString();
+        }
+        boolean humans = hasHuman();
+        StringBuilder status = new StringBuilder();
+        int handOfSeat = 0;
+        for (int i = 0; i < model.getHandCount(); i++) {
+            int seat = model.getSeat(i);
+            handOfSeat = i > 0 && model.getSeat(i - 1) == seat ? handOfSeat + 1 : 1;
+            if (humans && bots[seat] != null) {
+                continue;
+            }
+            status.append(status.length() == 0 ? "" : "  ").append("Seat ").append(seat + 1);
+            if (model.getSeatHandCount(seat) > 1) {
+                status.append(" hand ").append(handOfSeat);
+            }
+            status.append(": ").append(describe(model.determineOutcome(i)));
+        }
+        return status.toString();
+    }
+
+    // Whether any seat is played by a human
+    private boolean hasHuman() {
+        for (PlayerStrategy bot : bots) {
+            if (bot == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(RoundOutcome outcome) {
+        switch (outcome) {
+            case PLAYER_BUST:
+                return "Player Busts! Dealer Wins!";
+            case PLAYER_BLACKJACK:
+                return "Player Blackjack! Player Wins!";
+            case DEALER_BUST:
+                return "Dealer Busts! Player Wins!";
+            case DEALER_BLACKJACK:
+                return "Dealer Blackjack! Dealer Wins!";
+            case PLAYER_WIN:
+                return "Player Wins!";
+            case DEALER_WIN:
+                return "Dealer Wins!";
+            default:
+                return "It's a Tie!";
+        }
+    }
+
+    private void checkInProgress() {
+        if (model == null || outcome != null) {
+            throw new IllegalStateException("no round in progress");
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package blackjack;
+
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import javax.swing.*;
+
+/**BlackjackView Class
+  * The GUI View for blackjack. Cards are dealt and turned over by a frame timer that draws
+  * the table into an accelerated back buffer, then copies the changed area to the screen.
+  * @since  25/05/2023
+  * @author Faizan*/
+
+public class BlackjackView {
+    JFrame frame;            // Main window for the Blackjack game
+    JPanel gamePanel;        // Panel to display the game, including cards
+    JPanel buttonPanel;      // Panel for buttons and status label
+    JButton hitButton;       // Button to "hit" (request another card)
+    JButton stayButton;      // Button to "stay" (end turn)
+    JButton splitButton;     // Button to split a pair into two hands
+    JButton exitButton;      // Button to exit the game
+    JButton newGameButton;   // Button to start a new game
+    JLabel statusLabel;      // Label to display game status messages
+    JLabel historyLabel;     // Label under the status with statistics of every round played, if shown
+    JButton playButton;      // Button to start playing (not used in current layout)
+    JButton quitButton;      // Button to quit the game (not used in current layout)
+
+    private final CardImages cardImages = CardImages.get();  // Shared, pre-scaled card images
+    private byte[][] playerHands = new byte[0][];     // Encoded cards of each player hand displayed
+    private int activeHand = 0;                       // Index of the hand being played
+    private byte[] dealerCards = new byte[0];         // Encoded dealer's cards displayed
+    private boolean showHiddenCard = false;           // Flag to indicate whether to show dealer's hidden card
+    private String dealerOddsText = null;             // Live dealer odds drawn under the cards, if any
+    private String countText = null;                  // Card count drawn over the table, if any
+    private int countX = 0;                           // Left edge of the card count
+
+    private final CardAnimator animator = new CardAnimator(
+        Boolean.parseBoolean(System.getProperty("blackjack.animate", "true")));
+    private final Timer frameTimer;         // Draws a frame every FRAME_MILLIS while cards are moving
+    private VolatileImage backBuffer;       // The table as last drawn, copied to the screen when painting
+    private Graphics2D backGraphics;        // Kept for as long as the back buffer, rather than made per frame
+    private long lastFrame = 0;             // When the last frame of an animation was drawn, or 0
+    private Runnable whenAnimated = null;   // Run once the cards come to rest
+
+    // Layout of the table: card slots per row, and baselines of the text lines under the cards
+    private static final int CARD_X = 20;
+    private static final int CARD_SPACING = 120;
+    private static final int DEALER_Y = 20;
+    private static final int PLAYER_Y = 200;
+    private static final int ODDS_Y = 380;
+    private static final int COUNT_Y = 400;
+    private static final int TEXT_ASCENT = 15;   // Room above a baseline repainted with its line
+    private static final int TEXT_HEIGHT = 20;
+    private static final int MIN_FAN = 15;       // Least offset between the cards of a crowded hand
+    private static final int OUTLINE = 3;        // Gap between the hand being played and its outline
+
+    private static final int FRAME_MILLIS = 16;                         // About 60 frames a second
+    private static final long LATE_NANOS = 1_000_000_000L / 60 * 3 / 2;  // A frame later than this missed one
+
+    // Time to copy the back buffer to the screen, to draw a frame into it, and between frames
+    private static final LatencyRecorder PAINT_TIME = MetricsRegistry.getDefault().latency("view.paint");
+    private static final LatencyRecorder FRAME_TIME = MetricsRegistry.getDefault().latency("view.frame");
+    private static final LatencyRecorder FRAME_INTERVAL = MetricsRegistry.getDefault().latency("view.frame.interval");
+    private static final LongAdder LATE_FRAMES = MetricsRegistry.getDefault().counter("view.frame.late");
+
+    /**
+     * Constructor sets up the UI components for the Blackjack game.
+     */
+    public BlackjackView() {
+        frame = new JFrame("Black Jack");
+        frame.setSize(800, 600);
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setLocationRelativeTo(null);
+        frame.setResizable(false);
+
+        // Set up the game panel to display cards
+        gamePanel = new JPanel() {
+            protected void paintComponent(Graphics g) {
+                paintTable(g);  // Copy of the back buffer the cards are drawn into
+            }
+        };
+        gamePanel.setBackground(new Color(53, 101, 77));  // Set a green background
+
+        // One timer draws every frame of every animation
+        frameTimer = new Timer(FRAME_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                nextFrame();
+            }
+        });
+        frameTimer.setCoalesce(true);  // A frame that is late is skipped, not queued
+
+        // Set up the button panel
+        buttonPanel = new JPanel();
+        buttonPanel.setLayout(new BorderLayout());
+
+        // Hit and Split share the top row
+        JPanel playPanel = new JPanel(new GridLayout(1, 2));
+        hitButton = new JButton("Hit");
+        playPanel.add(hitButton);
+        splitButton = new JButton("Split");
+        playPanel.add(splitButton);
+        buttonPanel.add(playPanel, BorderLayout.NORTH);
+
+        stayButton = new JButton("Stay");
+        buttonPanel.add(stayButton, BorderLayout.SOUTH);
+        
+        exitButton = new JButton("Exit");
+        buttonPanel.add(exitButton, BorderLayout.WEST);
+
+        newGameButton = new JButton("New Game");
+        buttonPanel.add(newGameButton, BorderLayout.EAST);
+
+        // Status label at the center, over the history once there is one to show
+        JPanel statusPanel = new JPanel(new BorderLayout());
+        statusLabel = new JLabel("");
+        statusPanel.add(statusLabel, BorderLayout.CENTER);
+        historyLabel = new JLabel("");
+        historyLabel.setVisible(false);
+        statusPanel.add(historyLabel, BorderLayout.SOUTH);
+        buttonPanel.add(statusPanel, BorderLayout.CENTER);
+
+        // Add panels to the frame
+        frame.add(gamePanel, BorderLayout.CENTER);
+        frame.add(buttonPanel, BorderLayout.SOUTH);
+
+        // Make the frame visible
+        frame.setVisible(true);
+    }
+
+    /**
+     * Copies the back buffer to the screen, drawing it afresh first if it was lost.
+     * @param g Graphics context for drawing within the panel.
+     */
+    private void paintTable(Graphics g) {
+        long start = System.nanoTime();
+        do {
+            if (!validateBackBuffer()) {
+                // Nothing to copy until the panel is showing
+                g.setColor(gamePanel.getBackground());
+                g.fillRect(0, 0, gamePanel.getWidth(), gamePanel.getHeight());
+                return;
+            }
+            g.drawImage(backBuffer, 0, 0, null);  // Only the clip, the area being repainted, is copied
+        } while (backBuffer.contentsLost());
+        PAINT_TIME.recordSince(start);
+    }
+
+    /**
+     * Draws the table into the back buffer, with every card where it is at the given time.
+     * @param g    Graphics context of the back buffer.
+     * @param time Time of the frame, from System.nanoTime().
+     */
+    private void drawCards(Graphics g, long time) {
+        g.setColor(gamePanel.getBackground());
+        g.fillRect(0, 0, backBuffer.getWidth(), backBuffer.getHeight());
+
+        // Draw the shoe the cards are dealt from, then the cards over it
+        cardImages.drawBack(g, shoeX(), DEALER_Y);
+        animator.draw(g, cardImages, time);
+
+        // Outline the hand being played when there are several
+        if (playerHands.length > 1 && !showHiddenCard && playerHands[activeHand].length > 0) {
+            int left = playerCardX(activeHand, 0) - OUTLINE;
+            int right = playerCardX(activeHand, playerHands[activeHand].length - 1) + CardImages.CARD_WIDTH + OUTLINE;
+            g.setColor(Color.YELLOW);
+            g.drawRect(left, PLAYER_Y - OUTLINE, right - left, CardImages.CARD_HEIGHT + 2 * OUTLINE);
+        }
+
+        // Draw the dealer's odds under the player's cards
+        if (dealerOddsText != null) {
+            g.setColor(Color.WHITE);
+            g.drawString(dealerOddsText, CARD_X, ODDS_Y);
+        }
+
+        // Draw the card count under the odds, against the right edge
+        if (countText != null) {
+            g.setColor(Color.YELLOW);
+            g.drawString(countText, countX, COUNT_Y);
+        }
+    }
+
+    // Draws the table as it is now into the back buffer and repaints what changed, stopping
+    // the frame timer once every card has come to rest
+    private void nextFrame() {
+        long now = System.nanoTime();
+        if (lastFrame != 0) {
+            FRAME_INTERVAL.record(now - lastFrame);
+            if (now - lastFrame > LATE_NANOS) {
+                LATE_FRAMES.increment();
+            }
+        }
+        if (validateBackBuffer()) {
+            drawCards(backGraphics, now);
+            FRAME_TIME.recordSince(now);
+            animator.repaintDirty(gamePanel);
+        }
+        if (animator.isAnimating(now)) {
+            lastFrame = now;
+            if (!frameTimer.isRunning()) {
+                frameTimer.start();
+            }
+        } else {
+            lastFrame = 0;
+            frameTimer.stop();
+            Runnable task = whenAnimated;
+            whenAnimated = null;
+            if (task != null) {
+                task.run();
+            }
+        }
+    }
+
+    // Makes the back buffer ready to draw into or copy from, recreating it for a new size or
+    // screen. A buffer that is new or lost its contents is drawn afresh and repainted whole.
+    // Returns false while the panel is not showing.
+    private boolean validateBackBuffer() {
+        int width = gamePanel.getWidth();
+        int height = gamePanel.getHeight();
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+        int status = backBuffer == null ? VolatileImage.IMAGE_INCOMPATIBLE
+                                        : backBuffer.validate(gamePanel.getGraphicsConfiguration());
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE || backBuffer.getWidth() != width || backBuffer.getHeight() != height) {
+            if (backBuffer != null) {
+                backGraphics.dispose();
+                backGraphics = null;
+                backBuffer.flush();
+            }
+            backBuffer = gamePanel.createVolatileImage(width, height);
+            if (backBuffer == null) {
+                return false;
+            }
+            status = VolatileImage.IMAGE_RESTORED;
+        }
+        if (status == VolatileImage.IMAGE_RESTORED) {
+            if (backGraphics != null) {
+                backGraphics.dispose();
+            }
+            backGraphics = backBuffer.createGraphics();
+            backGraphics.setFont(gamePanel.getFont());
+            drawCards(backGraphics, System.nanoTime());
+            animator.addDirty(0, 0, width, height);
+        }
+        return true;
+    }
+
+    // Left edge of a player card: a single hand keeps the usual slots, while several hands
+    // share the width of the table and fan their cards to fit
+    private int playerCardX(int hand, int card) {
+        if (playerHands.length <= 1) {
+            return CARD_X + card * CARD_SPACING;
+        }
+        int width = (gamePanel.getWidth() - CARD_X) / playerHands.length;
+        int cards = playerHands[hand].length;
+        int step = cards < 2 ? 0 : (width - CardImages.CARD_WIDTH - CARD_X) / (cards - 1);
+        return CARD_X + hand * width + card * Math.max(MIN_FAN, Math.min(CARD_SPACING, step));
+    }
+
+    // Left edge of the shoe, in the dealer's row against the right edge
+    private int shoeX() {
+        return gamePanel.getWidth() - CARD_X - CardImages.CARD_WIDTH;
+    }
+
+    /**
+     * Everything the table shows for one moment of a round, copied out of the model on the
+     * game thread so the event dispatch thread never reads a model that is still changing.
+     */
+    public static class TableState {
+        final byte[][] playerHands;    // Encoded cards of each player hand
+        final int activeHand;          // Index of the hand being played
+        final boolean canSplit;        // Whether the hand being played can be split
+        final byte[] dealerCards;      // Encoded dealer's cards
+        final boolean showHiddenCard;  // Whether the dealer's second card is face up
+        final String oddsText;         // Dealer odds line, or null
+        final String countText;        // Card count line, or null
+
+        /**
+         * @param model          the round to show
+         * @param showHiddenCard whether to show the dealer's hidden card, which also means the round is over
+         * @param odds           dealer result probabilities indexed as in DealerOdds, or null to hide them
+         * @param countText      one line describing the card count, or null to hide it
+         */
+        public TableState(BlackjackModel model, boolean showHiddenCard, double[] odds, String countText) {
+            this.playerHands = new byte[model.getHandCount()][];
+            for (int i = 0; i < playerHands.length; i++) {
+                playerHands[i] = copyCards(model.getPlayerCards(i));
+            }
+            this.activeHand = model.getActiveHand();
+            this.canSplit = !showHiddenCard && model.canSplit();
+            this.dealerCards = copyCards(model.getDealerCards());
+            this.showHiddenCard = showHiddenCard;
+            this.oddsText = odds == null ? null : formatOdds(odds);
+            this.countText = countText;
+        }
+
+        private static byte[] copyCards(Hand hand) {
+            byte[] cards = new byte[hand.size()];
+            for (int i = 0; i < cards.length; i++) {
+                cards[i] = hand.get(i);
+            }
+            return cards;
+        }
+
+        private static String formatOdds(double[] odds) {
+            StringBuilder text = new StringBuilder("Dealer odds -");
+            for (int total = 17; total <= 21; total++) {
+                text.append(' ').append(total).append(": ").append(percent(odds[DealerOdds.TOTAL_17 + total - 17]));
+            }
+            text.append("  Blackjack: ").append(percent(odds[DealerOdds.BLACKJACK]));
+            text.append("  Bust: ").append(percent(odds[DealerOdds.BUST]));
+            return text.toString();
+        }
+    }
+
+    /**
+     * Shows a new state of the table. Cards already on the table move to their new places,
+     * new cards are dealt from the shoe one after another and the hole card is turned over
+     * when it is shown; only the areas that change are repainted. Must be called on the
+     * event dispatch thread.
+     * @param state The state to show.
+     */
+    public void showTable(TableState state) {
+        long now = System.nanoTime();
+        if (showHiddenCard && !state.showHiddenCard) {
+            animator.clear();  // A new round, all of whose cards come from the shoe
+        }
+        boolean holeTurns = state.showHiddenCard && !showHiddenCard && dealerCards.length > 1;
+        if ((playerHands.length > 1 || state.playerHands.length > 1)
+                && (state.activeHand != activeHand || state.showHiddenCard != showHiddenCard
+                    || !Arrays.deepEquals(state.playerHands, playerHands))) {
+            // The outline of the hand being played may move or go
+            animator.addDirty(0, PLAYER_Y - OUTLINE, gamePanel.getWidth(), CardImages.CARD_HEIGHT + 2 * OUTLINE + 1);
+        }
+        if (!Objects.equals(state.oddsText, dealerOddsText)) {
+            dirtyTextLine(ODDS_Y);
+        }
+        if (!Objects.equals(state.countText, countText)) {
+            dirtyTextLine(COUNT_Y);
+        }
+
+        dealerCards = state.dealerCards;
+        playerHands = state.playerHands;
+        activeHand = state.activeHand;
+        showHiddenCard = state.showHiddenCard;
+        dealerOddsText = state.oddsText;
+        countText = state.countText;
+        if (countText != null) {
+            countX = gamePanel.getWidth() - gamePanel.getFontMetrics(gamePanel.getFont()).stringWidth(countText) - CARD_X;
+        }
+
+        // Place the cards in the order they are dealt: one to each hand, then one to the dealer
+        animator.begin(now, holeTurns, shoeX(), DEALER_Y);
+        int rows = dealerCards.length;
+        for (byte[] cards : playerHands) {
+            rows = Math.max(rows, cards.length);
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int hand = 0; hand < playerHands.length; hand++) {
+                if (i < playerHands[hand].length) {
+                    animator.target(playerHands[hand][i], true, playerCardX(hand, i), PLAYER_Y);
+                }
+            }
+            if (i < dealerCards.length) {
+                animator.target(dealerCards[i], i != 1 || showHiddenCard, CARD_X + i * CARD_SPACING, DEALER_Y);
+            }
+        }
+        animator.end();
+        nextFrame();
+    }
+
+    /**
+     * Runs a task once the cards have come to rest, at once if none is moving.
+     * Must be called on the event dispatch thread.
+     * @param task The task to run, replacing any still waiting.
+     */
+    public void whenAnimated(Runnable task) {
+        if (frameTimer.isRunning()) {
+            whenAnimated = task;
+        } else {
+            task.run();
+        }
+    }
+
+    private void dirtyTextLine(int baseline) {
+        animator.addDirty(0, baseline - TEXT_ASCENT, gamePanel.getWidth(), TEXT_HEIGHT);
+    }
+
+    private static String percent(double p) {
+        return String.format("%.1f%%", p * 100);
+    }
+
+    /**
+     * Sets the status message in the status label.
+     * @param status The message to be displayed.
+     */
+    public void setStatus(String status) {
+        statusLabel.setText(status);
+    }
+
+    /**
+     * Shows statistics of the rounds played so far under the status.
+     * @param history One line of statistics.
+     */
+    public void setHistory(String history) {
+        historyLabel.setText(history);
+        if (!historyLabel.isVisible()) {
+            historyLabel.setVisible(true);
+            buttonPanel.revalidate();
+        }
+    }
+
+    /**
+     * Shows the rules of the table in the window title.
+     * @param rules A short description of the rules.
+     */
+    public void setRules(String rules) {
+        frame.setTitle("Black Jack - " + rules);
+    }
+
+    /**
+     * Shows the main frame again after closeFrame().
+     */
+    public void openFrame() {
+        frame.setVisible(true);
+    }
+
+    /**
+     * Closes the main frame, effectively hiding the UI.
+     */
+    public void closeFrame() {
+        if (frame != null) {
+            frame.setVisible(false);  // Hide the frame
+        }
+    }
+}
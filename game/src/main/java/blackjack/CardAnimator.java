@@ -0,0 +1,292 @@
+package blackjack;
+
+import java.awt.Graphics;
+import java.util.Arrays;
+import javax.swing.JComponent;
+
+/**CardAnimator Class
+  * Where every card on the table is at each moment of the view's animation. Each layout the
+  * view gives it moves the cards already on the table from wherever they are to their new
+  * place, deals new cards one after another from the shoe and turns over any card whose face
+  * changed. Positions are worked out from the frame time, so a late frame skips ahead
+  * rather than slowing the deal down.
+  *
+  * Cards are kept in parallel arrays, two sets swapped on each layout, so drawing a frame
+  * allocates nothing. The animator also gathers the area that changed since the last
+  * repaint, for the view to repaint only that.
+  * @since  18/10/2026*/
+
+final class CardAnimator {
+    static final long MOVE_NANOS = 300_000_000L;     // A card sliding out of the shoe or to a new place
+    static final long STAGGER_NANOS = 150_000_000L;  // Between the starts of cards dealt one after another
+    static final long FLIP_NANOS = 240_000_000L;     // A card being turned over
+
+    private final long moveNanos;
+    private final long staggerNanos;
+    private final long flipNanos;
+
+    private Cards shown = new Cards();     // The cards of the current layout
+    private Cards previous = new Cards();  // The cards of the layout before, while a new one is given
+    private long now;       // Time the current layout was given
+    private long dealAt;    // When the next new card leaves the shoe
+    private long doneAt;    // When the last card of the layout comes to rest
+    private int shoeX;
+    private int shoeY;
+
+    // Area changed since the last repaint, empty when left > right
+    private int dirtyLeft = Integer.MAX_VALUE;
+    private int dirtyTop = Integer.MAX_VALUE;
+    private int dirtyRight = Integer.MIN_VALUE;
+    private int dirtyBottom = Integer.MIN_VALUE;
+
+    /**
+     * @param animated false to have every card jump straight to its place
+     */
+    CardAnimator(boolean animated) {
+        this.moveNanos = animated ? MOVE_NANOS : 0;
+        this.staggerNanos = animated ? STAGGER_NANOS : 0;
+        this.flipNanos = animated ? FLIP_NANOS : 0;
+    }
+
+    /**
+     * Takes every card off the table, as at the start of a round, so no card of the new
+     * layout is taken for one that was already shown.
+     */
+    void clear() {
+        for (int i = 0; i < shown.size; i++) {
+            dirtyCard(shown, i);
+        }
+        shown.size = 0;
+    }
+
+    /**
+     * Starts a new layout; give every card of it to target() in the order they were dealt,
+     * then call end().
+     *
+     * @param now       the current time from System.nanoTime()
+     * @param flipFirst whether a card is turned over before any new card is dealt
+     * @param shoeX     left edge of the shoe new cards come from
+     * @param shoeY     top edge of the shoe
+     */
+    void begin(long now, boolean flipFirst, int shoeX, int shoeY) {
+        Cards swap = previous;
+        previous = shown;
+        shown = swap;
+        shown.size = 0;
+        Arrays.fill(previous.kept, 0, previous.size, false);
+        this.now = now;
+        this.dealAt = flipFirst ? now + flipNanos : now;
+        this.doneAt = now;
+        this.shoeX = shoeX;
+        this.shoeY = shoeY;
+    }
+
+    /**
+     * Places one card of the layout. A card of the same code still unplaced from the
+     * layout before is taken to be this card; otherwise the card is dealt from the shoe.
+     *
+     * @param code   the encoded card
+     * @param faceUp whether the card ends face up
+     * @param x      left edge of the card's place
+     * @param y      top edge of the card's place
+     */
+    void target(byte code, boolean faceUp, int x, int y) {
+        int i = shown.add();
+        shown.codes[i] = code;
+        shown.faceUp[i] = faceUp;
+        shown.toX[i] = x;
+        shown.toY[i] = y;
+        int old = previous.find(code);
+        if (old < 0) {
+            shown.fromX[i] = shoeX;
+            shown.fromY[i] = shoeY;
+            shown.moveStart[i] = dealAt;
+            shown.flipping[i] = false;
+            shown.drawnWidth[i] = 0;
+            dealAt += staggerNanos;
+        } else {
+            previous.kept[old] = true;
+            shown.fromX[i] = previous.x(old, now, moveNanos);
+            shown.fromY[i] = previous.y(old, now, moveNanos);
+            shown.moveStart[i] = now;
+            if (previous.faceUp[old] != faceUp) {
+                shown.flipping[i] = true;
+                shown.flipStart[i] = now;
+            } else {
+                shown.flipping[i] = previous.flipping[old];
+                shown.flipStart[i] = previous.flipStart[old];
+            }
+            shown.drawnX[i] = previous.drawnX[old];
+            shown.drawnY[i] = previous.drawnY[old];
+            shown.drawnWidth[i] = previous.drawnWidth[old];
+            shown.drawnFace[i] = previous.drawnFace[old];
+        }
+        if (old < 0 || shown.fromX[i] != x || shown.fromY[i] != y) {
+            doneAt = Math.max(doneAt, shown.moveStart[i] + moveNanos);
+        }
+        if (shown.flipping[i]) {
+            doneAt = Math.max(doneAt, shown.flipStart[i] + flipNanos);
+        }
+    }
+
+    /**
+     * Ends the layout, taking away the cards of the layout before that were not placed again.
+     */
+    void end() {
+        for (int i = 0; i < previous.size; i++) {
+            if (!previous.kept[i]) {
+                dirtyCard(previous, i);
+            }
+        }
+    }
+
+    /**
+     * Whether any card is still moving or turning at the given time.
+     */
+    boolean isAnimating(long time) {
+        return time - doneAt < 0;
+    }
+
+    /**
+     * Draws every card as it is at the given time, adding any card that looks different
+     * from the last frame to the changed area.
+     */
+    void draw(Graphics g, CardImages images, long time) {
+        Cards cards = shown;
+        for (int i = 0; i < cards.size; i++) {
+            int y = cards.y(i, time, moveNanos);
+            int left = cards.x(i, time, moveNanos);
+            int width = 0;  // Not drawn while still in the shoe
+            boolean face = cards.faceUp[i];
+            if (time - cards.moveStart[i] >= 0) {
+                width = CardImages.CARD_WIDTH;
+                long turned = time - cards.flipStart[i];
+                if (cards.flipping[i] && turned < flipNanos) {
+                    // The old face narrows to nothing over the first half, then the new face widens
+                    double half = Math.max(0, turned) * 2.0 / flipNanos;
+                    face = half < 1 ? !face : face;
+                    width = (int) Math.round(CardImages.CARD_WIDTH * Math.abs(1 - half));
+                    left += (CardImages.CARD_WIDTH - width) / 2;
+                }
+            }
+            if (width != cards.drawnWidth[i] || left != cards.drawnX[i] || y != cards.drawnY[i] || face != cards.drawnFace[i]) {
+                dirtyCard(cards, i);
+                cards.drawnX[i] = left;
+                cards.drawnY[i] = y;
+                cards.drawnWidth[i] = width;
+                cards.drawnFace[i] = face;
+                dirtyCard(cards, i);
+            }
+            if (width == 0) {
+                // Nothing to draw
+            } else if (face) {
+                images.drawCard(g, cards.codes[i], left, y, width);
+            } else {
+                images.drawBack(g, left, y, width);
+            }
+        }
+    }
+
+    /**
+     * Adds an area to the changed area.
+     */
+    void addDirty(int x, int y, int width, int height) {
+        dirtyLeft = Math.min(dirtyLeft, x);
+        dirtyTop = Math.min(dirtyTop, y);
+        dirtyRight = Math.max(dirtyRight, x + width);
+        dirtyBottom = Math.max(dirtyBottom, y + height);
+    }
+
+    /**
+     * Repaints the changed area of the component, if any, and empties it.
+     */
+    void repaintDirty(JComponent component) {
+        if (dirtyLeft < dirtyRight) {
+            component.repaint(dirtyLeft, dirtyTop, dirtyRight - dirtyLeft, dirtyBottom - dirtyTop);
+        }
+        dirtyLeft = Integer.MAX_VALUE;
+        dirtyTop = Integer.MAX_VALUE;
+        dirtyRight = Integer.MIN_VALUE;
+        dirtyBottom = Integer.MIN_VALUE;
+    }
+
+    // Adds where a card was last drawn to the changed area
+    private void dirtyCard(Cards cards, int i) {
+        if (cards.drawnWidth[i] > 0) {
+            addDirty(cards.drawnX[i], cards.drawnY[i], cards.drawnWidth[i], CardImages.CARD_HEIGHT);
+        }
+    }
+
+    // Fraction of a move done at a time, eased so the card slows as it arrives
+    private static double eased(long elapsed, long duration) {
+        if (elapsed >= duration) {
+            return 1;
+        }
+        if (elapsed <= 0) {
+            return 0;
+        }
+        double left = 1 - (double) elapsed / duration;
+        return 1 - left * left * left;
+    }
+
+    /**
+     * The cards of one layout, one entry of each array per card.
+     */
+    private static final class Cards {
+        int size = 0;
+        byte[] codes = new byte[0];
+        boolean[] faceUp = new boolean[0];    // Face the card ends with
+        int[] fromX = new int[0];             // Where the card's move starts
+        int[] fromY = new int[0];
+        int[] toX = new int[0];               // Where the card comes to rest
+        int[] toY = new int[0];
+        long[] moveStart = new long[0];
+        boolean[] flipping = new boolean[0];  // Whether the card is turned over, starting at flipStart
+        long[] flipStart = new long[0];
+        boolean[] kept = new boolean[0];      // Placed again in the next layout
+        int[] drawnX = new int[0];            // Where the card was drawn in the last frame, 0 wide if not drawn
+        int[] drawnY = new int[0];
+        int[] drawnWidth = new int[0];
+        boolean[] drawnFace = new boolean[0];
+
+        // Adds a card, growing the arrays when full, and returns its index
+        int add() {
+            if (size == codes.length) {
+                int capacity = Math.max(16, size * 2);
+                codes = Arrays.copyOf(codes, capacity);
+                faceUp = Arrays.copyOf(faceUp, capacity);
+                fromX = Arrays.copyOf(fromX, capacity);
+                fromY = Arrays.copyOf(fromY, capacity);
+                toX = Arrays.copyOf(toX, capacity);
+                toY = Arrays.copyOf(toY, capacity);
+                moveStart = Arrays.copyOf(moveStart, capacity);
+                flipping = Arrays.copyOf(flipping, capacity);
+                flipStart = Arrays.copyOf(flipStart, capacity);
+                kept = Arrays.copyOf(kept, capacity);
+                drawnX = Arrays.copyOf(drawnX, capacity);
+                drawnY = Arrays.copyOf(drawnY, capacity);
+                drawnWidth = Arrays.copyOf(drawnWidth, capacity);
+                drawnFace = Arrays.copyOf(drawnFace, capacity);
+            }
+            return size++;
+        }
+
+        // Index of the first card of the code not yet placed again, or -1
+        int find(byte code) {
+            for (int i = 0; i < size; i++) {
+                if (codes[i] == code && !kept[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int x(int i, long time, long moveNanos) {
+            return fromX[i] + (int) Math.round((toX[i] - fromX[i]) * eased(time - moveStart[i], moveNanos));
+        }
+
+        int y(int i, long time, long moveNanos) {
+            return fromY[i] + (int) Math.round((toY[i] - fromY[i]) * eased(time - moveStart[i], moveNanos));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package blackjack;
+
+/**CardCode Class
+  * Packs a card's rank and suit into a single byte: code = rank * 4 + suit.
+  * Ranks run from 0 ("2") to 12 ("A") and suits follow the order H, D, S, C,
+  * so the 52 codes of a deck are simply 0..51.
+  * @since  18/10/2026*/
+
+public final class CardCode {
+    public static final int RANKS = 13;        // Number of distinct ranks
+    public static final int SUITS = 4;         // Number of suits
+    public static final int DECK_SIZE = 52;    // Cards in a single deck
+    public static final int ACE = 12;          // Rank index of the Ace
+    public static final int TEN = 8;           // Rank index of the first ten-valued card
+
+    // Names used in image paths, indexed by rank and suit
+    static final String[] RANK_NAMES = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+    static final String[] SUIT_NAMES = {"H", "D", "S", "C"};
+
+    // Blackjack value of each code, with the Ace counted as 1
+    private static final byte[] HARD_VALUES = new byte[DECK_SIZE];
+
+    static {
+        for (int code = 0; code < DECK_SIZE; code++) {
+            int rank = code / SUITS;
+            HARD_VALUES[code] = (byte) (rank == ACE ? 1 : Math.min(rank + 2, 10));
+        }
+    }
+
+    private CardCode() {
+    }
+
+    // Builds the code for a rank and suit index
+    public static byte encode(int rank, int suit) {
+        return (byte) (rank * SUITS + suit);
+    }
+
+    public static int rank(byte code) {
+        return code >> 2;
+    }
+
+    public static int suit(byte code) {
+        return code & 3;
+    }
+
+    // Value of the card with the Ace counted as 1; soft totals are handled by Hand
+    public static int hardValue(byte code) {
+        return HARD_VALUES[code];
+    }
+
+    // Value of the card with the Ace counted as 11, matching Card.getValue()
+    public static int value(byte code) {
+        return code >= ACE * SUITS ? 11 : HARD_VALUES[code];
+    }
+
+    public static boolean isAce(byte code) {
+        return code >= ACE * SUITS;
+    }
+
+    // Returns the card's name as used for its image, e.g. "10-H"
+    public static String toString(byte code) {
+        return RANK_NAMES[rank(code)] + "-" + SUIT_NAMES[suit(code)];
+    }
+}
@@ -0,0 +1,251 @@
+package blackjack;
+
+/**CardCounter Class
+  * Follows the cards leaving a shoe by listening to a table's round events and keeps the
+  * Hi-Lo running count, the true count and the composition of the cards still in the shoe.
+  * Every round is also filed under the true count it was dealt at, so the player's result
+  * can be read per count. Each card costs a few array updates and nothing is allocated.
+  *
+  * Cards are counted as they are dealt, as seen by someone watching the whole table, except
+  * the dealer's hole card, which is only counted once it is turned over: when the dealer
+  * starts drawing, or when the round is settled if the dealer never draws. Until then the
+  * count and the cards left include it among the cards not yet seen. A counter belongs to
+  * one table and is not thread safe.
+  * @since  18/10/2026*/
+
+public class CardCounter implements RoundEventListener {
+    public static final int MAX_TRUE_COUNT = 10;  // True counts beyond +/-10 are filed under +/-10
+
+    // Hi-Lo tag per card value, index 0 for the Ace up to 9 for the ten-valued cards
+    private static final int[] TAGS = {-1, 1, 1, 1, 1, 1, 0, 0, 0, -1};
+    private static final int BUCKETS = 2 * MAX_TRUE_COUNT + 1;
+    private static final RoundOutcome[] OUTCOMES = RoundOutcome.values();
+
+    private final Shoe shoe;
+    private final Payouts payouts;  // How the table pays a blackjack, for the results per count
+    private final int[] remaining = new int[DealerOdds.VALUES];  // Cards left per value
+    private int cardsLeft;
+    private int runningCount;
+    private long seed;             // Shuffle seed and position of the shoe as last seen in the events
+    private int position;
+    private boolean synced = false;
+    private int dealerCards;       // Dealer's cards dealt this round, to tell the hole card
+    private final int[] roundSeen = new int[DealerOdds.VALUES];  // Cards counted this round per value
+    private int holeCard = -1;     // The dealer's hole card while it is face down, or -1
+
+    // Rounds and player winnings in units of 1 / blackjackBet of a bet, so a blackjack paying
+    // blackjackWin:blackjackBet wins a whole number of them, by true count at the deal
+    private final long[] bucketRounds = new long[BUCKETS];
+    private final long[] bucketUnits = new long[BUCKETS];
+    private int roundBucket;       // Bucket of the round being played
+
+    /**
+     * Creates a counter for a table dealing from the given shoe under the default rules.
+     *
+     * @param shoe the table's shoe
+     */
+    public CardCounter(Shoe shoe) {
+        this(shoe, TableRules.DEFAULT);
+    }
+
+    /**
+     * Creates a counter for a table dealing from the given shoe. It can be attached at any
+     * time: if it has missed part of the shoe, it catches up from the shoe at the next round.
+     *
+     * @param shoe  the table's shoe
+     * @param rules the table's rules, whose blackjack payout the results per count are settled at
+     */
+    public CardCounter(Shoe shoe, TableRules rules) {
+        this.shoe = shoe;
+        this.payouts = rules.getPayouts();
+    }
+
+    public void onEvent(RoundEventType type, long value, int extra) {
+        switch (type) {
+            case SHUFFLE:
+                seed = value;
+                position = extra;
+                if (extra > 0) {
+                    keepRoundCards();  // Only the discards were reshuffled; the round's cards stay out
+                } else {
+                    holeCard = -1;  // Part of the shoe just reshuffled
+                    resetToFullShoe();
+                }
+                break;
+            case ROUND_START:
+                revealHoleCard();
+                if (!synced || value != seed || extra != position) {
+                    sync(value, extra);
+                }
+                dealerCards = 0;
+                for (int v = 0; v < roundSeen.length; v++) {
+                    roundSeen[v] = 0;
+                }
+                roundBucket = Math.max(-MAX_TRUE_COUNT, Math.min(MAX_TRUE_COUNT, (int) Math.floor(getTrueCount()))) + MAX_TRUE_COUNT;
+                break;
+            case DEALER_CARD:
+                position++;
+                if (++dealerCards == 2) {
+                    holeCard = (byte) value;  // Face down until the dealer plays
+                } else {
+                    count((byte) value);
+                }
+                break;
+            case PLAYER_CARD:
+            case HIT:
+            case DEALER_DRAW:
+                position++;
+                count((byte) value);
+                break;
+            case STAND:
+                revealHoleCard();
+                break;
+            case SETTLE:
+                revealHoleCard();  // The dealer did not draw, every hand having busted
+                if (value == 0) {  // A split round counts once, with the result of all its hands
+                    bucketRounds[roundBucket]++;
+                }
+                bucketUnits[roundBucket] += units(OUTCOMES[extra]);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Takes a card seen on the table out of the cards left and into the count
+    private void count(byte card) {
+        int v = CardCode.hardValue(card) - 1;
+        remaining[v]--;
+        cardsLeft--;
+        runningCount += TAGS[v];
+        roundSeen[v]++;
+    }
+
+    // Starts a reshuffled shoe without the cards seen on the table this round, which were
+    // left out of the shuffle; a face-down hole card stays among the cards not yet seen
+    private void keepRoundCards() {
+        resetToFullShoe();
+        for (int v = 0; v < remaining.length; v++) {
+            remaining[v] -= roundSeen[v];
+            cardsLeft -= roundSeen[v];
+            runningCount += TAGS[v] * roundSeen[v];
+        }
+    }
+
+    // Counts the hole card, if it is still face down
+    private void revealHoleCard() {
+        if (holeCard >= 0) {
+            count((byte) holeCard);
+            holeCard = -1;
+        }
+    }
+
+    // Rebuilds the count from the cards left in the shoe; a full shoe's tags sum to zero,
+    // so the running count is minus the tags of the cards still to come
+    private void sync(long seed, int position) {
+        this.seed = seed;
+        this.position = position;
+        for (int v = 0; v < remaining.length; v++) {
+            remaining[v] = 0;
+        }
+        shoe.countRemaining(remaining);
+        holeCard = -1;  // Already out of the shoe, so counted by the rebuild
+        cardsLeft = 0;
+        runningCount = 0;
+        for (int v = 0; v < remaining.length; v++) {
+            cardsLeft += remaining[v];
+            runningCount -= TAGS[v] * remaining[v];
+        }
+        synced = true;
+    }
+
+    private void resetToFullShoe() {
+        for (int v = 0; v < remaining.length; v++) {
+            remaining[v] = shoe.getDecks() * (v == 9 ? 16 : 4);
+        }
+        cardsLeft = shoe.size();
+        runningCount = 0;
+        synced = true;
+    }
+
+    // Player's result in units of 1 / blackjackBet of a bet, a blackjack paying at the table's ratio
+    private int units(RoundOutcome outcome) {
+        if (outcome == RoundOutcome.PLAYER_BLACKJACK) {
+            return payouts.getBlackjackWin();
+        }
+        int bet = payouts.getBlackjackBet();
+        return outcome.isPlayerWin() ? bet : outcome.isDealerWin() ? -bet : 0;
+    }
+
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * Returns the running count per deck left in the shoe.
+     */
+    public double getTrueCount() {
+        return cardsLeft == 0 ? 0 : runningCount * (double) CardCode.DECK_SIZE / cardsLeft;
+    }
+
+    public int getCardsLeft() {
+        return cardsLeft;
+    }
+
+    /**
+     * Returns how many cards of a value are left in the shoe.
+     *
+     * @param value card value, 1 for an Ace up to 10
+     */
+    public int getRemaining(int value) {
+        return remaining[value - 1];
+    }
+
+    /**
+     * Returns how many rounds were dealt at a true count, rounded down and capped at +/-MAX_TRUE_COUNT.
+     */
+    public long getRounds(int trueCount) {
+        return bucketRounds[trueCount + MAX_TRUE_COUNT];
+    }
+
+    /**
+     * Returns the player's average result per unit bet over the rounds dealt at a true count,
+     * or 0 if there were none.
+     */
+    public double getExpectedValue(int trueCount) {
+        long rounds = bucketRounds[trueCount + MAX_TRUE_COUNT];
+        return rounds == 0 ? 0 : bucketUnits[trueCount + MAX_TRUE_COUNT] / ((double) payouts.getBlackjackBet() * rounds);
+    }
+
+    /**
+     * Forgets the per-count results, keeping the count of the shoe.
+     */
+    public void resetResults() {
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketRounds[i] = 0;
+            bucketUnits[i] = 0;
+        }
+    }
+
+    /**
+     * Describes the count in one line, as shown over the table.
+     */
+    public String getSummary() {
+        return String.format("Running count: %+d  True count: %+.1f  Cards left: %d (tens %d, aces %d)",
+                             runningCount, getTrueCount(), cardsLeft, remaining[9], remaining[0]);
+    }
+
+    /**
+     * Returns the player's results per true count, one line per count that was dealt at.
+     */
+    public String toString() {
+        StringBuilder text = new StringBuilder("True count   Rounds        EV\n");
+        for (int tc = -MAX_TRUE_COUNT; tc <= MAX_TRUE_COUNT; tc++) {
+            long rounds = getRounds(tc);
+            if (rounds > 0) {
+                text.append(String.format("%+10d %8d %+8.2f%%%n", tc, rounds, getExpectedValue(tc) * 100));
+            }
+        }
+        return text.toString();
+    }
+}
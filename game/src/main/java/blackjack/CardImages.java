@@ -0,0 +1,198 @@
+package blackjack;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import javax.imageio.ImageIO;
+
+/**CardImages Class
+  * Every card image, decoded once and pre-scaled into a single sprite atlas. The images are
+  * decoded in parallel on a background thread, which preload() starts early so the first
+  * round rarely waits for them.
+  * Cards are drawn as regions of the atlas, so painting does no I/O, no scaling and no allocation.
+  * @since  18/10/2026*/
+
+public final class CardImages {
+    public static final int CARD_WIDTH = 110;   // Width cards are drawn at
+    public static final int CARD_HEIGHT = 154;  // Height cards are drawn at
+
+    private static final int COLUMNS = CardCode.RANKS;
+    private static final int BACK = CardCode.DECK_SIZE;  // Atlas slot of the card back, after the 52 faces
+
+    private static FutureTask<CardImages> loading;  // Started by the first preload() or get()
+
+    private final BufferedImage atlas;  // All 53 images, 13 per row, at the drawn size
+
+    /**
+     * Decodes and scales the images of the cards directory in parallel, then copies them into the atlas.
+     */
+    private CardImages() {
+        int rows = (BACK + COLUMNS) / COLUMNS;
+        atlas = createImage(COLUMNS * CARD_WIDTH, rows * CARD_HEIGHT);
+        ExecutorService decoders = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "card-decoder");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<BufferedImage>> images = new ArrayList<>(BACK + 1);
+            for (int slot = 0; slot <= BACK; slot++) {
+                final String name = slot == BACK ? "BACK" : CardCode.toString((byte) slot);
+                images.add(decoders.submit(new Callable<BufferedImage>() {
+                    @Override
+                    public BufferedImage call() {
+                        return loadScaled(name);
+                    }
+                }));
+            }
+            Graphics2D g = atlas.createGraphics();
+            for (int slot = 0; slot <= BACK; slot++) {
+                g.drawImage(images.get(slot).get(), (slot % COLUMNS) * CARD_WIDTH, (slot / COLUMNS) * CARD_HEIGHT, null);
+            }
+            g.dispose();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading card images", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        } finally {
+            decoders.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts loading the card images in the background, if they are not loaded or loading
+     * already, so that a later get() finds them ready.
+     */
+    public static void preload() {
+        loading();
+    }
+
+    /**
+     * Returns the shared card images, waiting for them to load on first use.
+     */
+    public static CardImages get() {
+        try {
+            return loading().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading card images", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    // The load started by the first preload() or get()
+    private static synchronized FutureTask<CardImages> loading() {
+        if (loading == null) {
+            loading = new FutureTask<>(new Callable<CardImages>() {
+                @Override
+                public CardImages call() {
+                    return new CardImages();
+                }
+            });
+            Thread thread = new Thread(loading, "card-images");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return loading;
+    }
+
+    // The unchecked exception or error a background load failed with
+    private static RuntimeException rethrow(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException("Error loading card images: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Draws the face of a card.
+     *
+     * @param g    the graphics to draw with
+     * @param code the encoded card
+     * @param x    left edge of the card
+     * @param y    top edge of the card
+     */
+    public void drawCard(Graphics g, byte code, int x, int y) {
+        drawSlot(g, code, x, y, CARD_WIDTH);
+    }
+
+    /**
+     * Draws the middle strip of a card's face, as it shows edge-on while being turned over.
+     * The strip is cut from the card rather than squeezed, so it is still a plain copy.
+     *
+     * @param x     left edge of the strip
+     * @param width width of the strip, up to CARD_WIDTH
+     */
+    public void drawCard(Graphics g, byte code, int x, int y, int width) {
+        drawSlot(g, code, x, y, width);
+    }
+
+    /**
+     * Draws the back of a card, used for the dealer's hidden card.
+     */
+    public void drawBack(Graphics g, int x, int y) {
+        drawSlot(g, BACK, x, y, CARD_WIDTH);
+    }
+
+    /**
+     * Draws the middle strip of the back of a card.
+     */
+    public void drawBack(Graphics g, int x, int y, int width) {
+        drawSlot(g, BACK, x, y, width);
+    }
+
+    private void drawSlot(Graphics g, int slot, int x, int y, int width) {
+        int sx = (slot % COLUMNS) * CARD_WIDTH + (CARD_WIDTH - width) / 2;
+        int sy = (slot / COLUMNS) * CARD_HEIGHT;
+        g.drawImage(atlas, x, y, x + width, y + CARD_HEIGHT, sx, sy, sx + width, sy + CARD_HEIGHT, null);
+    }
+
+    // Decodes one image from the cards directory and scales it to the drawn size
+    private static BufferedImage loadScaled(String name) {
+        String path = "/cards/" + name + ".png";
+        try (InputStream in = CardImages.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing card image " + path);
+            }
+            BufferedImage image = ImageIO.read(in);
+            BufferedImage scaled = new BufferedImage(CARD_WIDTH, CARD_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, CARD_WIDTH, CARD_HEIGHT, null);
+            g.dispose();
+            return scaled;
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading card image " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Creates the atlas in the screen's native pixel format when there is a screen
+    private static BufferedImage createImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+}
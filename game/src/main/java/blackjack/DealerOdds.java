@@ -0,0 +1,182 @@
+package blackjack;
+
+import java.util.Arrays;
+
+/**DealerOdds Class
+  * Computes the exact distribution of the dealer's final result from the upcard and the
+  * composition of the unseen cards, for a dealer who draws by a DealerRule as in
+  * BlackjackModel.playDealerHand(). Results of every (total, soft, composition) state met
+  * during the recursion are memoized in a primitive open-addressing table, so repeated
+  * queries against the same shoe are answered from the cache.
+  *
+  * Compositions are counts per card value, index 0 for the Ace up to index 9 for the
+  * ten-valued cards, and are packed exactly into a long (6 bits per value, 8 for tens),
+  * which is enough for the eight decks of the largest shoe.
+  *
+  * A calculator is not thread safe; use one per thread.
+  * @since  18/10/2026*/
+
+public class DealerOdds {
+    // Indexes of the distribution: final totals 17..21 (without naturals), bust, natural blackjack
+    public static final int TOTAL_17 = 0;
+    public static final int TOTAL_21 = 4;
+    public static final int BUST = 5;
+    public static final int BLACKJACK = 6;
+    public static final int OUTCOMES = 7;
+
+    public static final int VALUES = 10;  // Distinct card values, Ace to ten
+
+    private static final int CAPACITY = 1 << 16;       // Slots in the memo table
+    private static final int MAX_ENTRIES = CAPACITY / 2;  // Cleared before a query once this full
+
+    private static final int[] SHIFT = {0, 6, 12, 18, 24, 30, 36, 42, 48, 54};
+    private static final long[] MASK = {63, 63, 63, 63, 63, 63, 63, 63, 63, 255};
+
+    // Memo table: packed composition and (hard total, soft) state per slot, 7 probabilities per slot
+    private final long[] compositions = new long[CAPACITY];
+    private final int[] states = new int[CAPACITY];    // 0 marks an empty slot
+    private final double[] odds = new double[CAPACITY * OUTCOMES];
+    private int entries = 0;
+    private final DealerRule rule;  // When the dealer draws
+
+    /**
+     * Creates a calculator for a dealer who stands on every 17.
+     */
+    public DealerOdds() {
+        this(DealerRule.STANDS_SOFT_17);
+    }
+
+    /**
+     * Creates a calculator for a dealer who draws by the given rule.
+     *
+     * @param rule the table's dealer rule
+     */
+    public DealerOdds(DealerRule rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Computes the dealer's final result distribution for an upcard and the unseen cards,
+     * which include the dealer's hole card.
+     *
+     * @param upcard value of the upcard, 1 for an Ace up to 10
+     * @param unseen count of unseen cards per value, index 0 for Aces up to 9 for tens
+     * @param out    receives the probability of each outcome, indexed by TOTAL_17..BLACKJACK
+     */
+    public void compute(int upcard, int[] unseen, double[] out) {
+        if (entries > MAX_ENTRIES) {
+            clear();
+        }
+        long composition = 0;
+        int cards = 0;
+        for (int v = 0; v < VALUES; v++) {
+            if (unseen[v] < 0 || unseen[v] > MASK[v]) {
+                throw new IllegalArgumentException("too many cards of value " + (v + 1) + ": " + unseen[v]);
+            }
+            composition |= (long) unseen[v] << SHIFT[v];
+            cards += unseen[v];
+        }
+        for (int k = 0; k < OUTCOMES; k++) {
+            out[k] = 0;
+        }
+
+        // The hole card is drawn by hand so that two-card 21s count as blackjacks
+        for (int v = 0; v < VALUES; v++) {
+            long count = (composition >>> SHIFT[v]) & MASK[v];
+            if (count == 0) {
+                continue;
+            }
+            double p = (double) count / cards;
+            boolean ace = upcard == 1 || v == 0;
+            int hard = upcard + v + 1;
+            if (ace && hard == 11) {
+                out[BLACKJACK] += p;
+                continue;
+            }
+            int slot = resolve(hard, ace, composition - (1L << SHIFT[v]), cards - 1);
+            int base = slot * OUTCOMES;
+            for (int k = 0; k < OUTCOMES; k++) {
+                out[k] += p * odds[base + k];
+            }
+        }
+    }
+
+    /**
+     * Computes the distribution for the round in progress: the dealer's upcard against the
+     * cards the player cannot see, the rest of the shoe and the dealer's hole card.
+     *
+     * @param model a round in which the dealer has not yet played
+     * @param out   receives the probability of each outcome, indexed by TOTAL_17..BLACKJACK
+     * @param unseen scratch array of VALUES counts
+     */
+    public void compute(BlackjackModel model, int[] unseen, double[] out) {
+        model.countUnseen(unseen);
+        compute(CardCode.hardValue(model.getDealerCards().get(0)), unseen, out);
+    }
+
+    /**
+     * Empties the memo table.
+     */
+    public void clear() {
+        Arrays.fill(states, 0);
+        entries = 0;
+    }
+
+    // Returns the memo slot holding the distribution of a state, computing it if needed
+    private int resolve(int hard, boolean ace, long composition, int cards) {
+        int state = (hard << 1 | (ace ? 1 : 0)) + 1;
+        int slot = find(composition, state);
+        if (states[slot] == state) {
+            return slot;
+        }
+        states[slot] = state;
+        compositions[slot] = composition;
+        entries++;
+        int base = slot * OUTCOMES;
+        for (int k = 0; k < OUTCOMES; k++) {
+            odds[base + k] = 0;
+        }
+
+        int total = ace && hard <= 11 ? hard + 10 : hard;
+        if (hard > 21) {
+            odds[base + BUST] = 1;
+            return slot;
+        }
+        if (!rule.mustHit(total, total != hard)) {
+            odds[base + TOTAL_17 + total - 17] = 1;
+            return slot;
+        }
+        if (cards == 0) {
+            // Only possible at full penetration; the shoe would reshuffle its discards here, which is
+            // left out, so the probabilities of this state sum to zero
+            return slot;
+        }
+
+        for (int v = 0; v < VALUES; v++) {
+            long count = (composition >>> SHIFT[v]) & MASK[v];
+            if (count == 0) {
+                continue;
+            }
+            double p = (double) count / cards;
+            int child = resolve(hard + v + 1, ace || v == 0, composition - (1L << SHIFT[v]), cards - 1);
+            int childBase = child * OUTCOMES;
+            for (int k = 0; k < OUTCOMES; k++) {
+                odds[base + k] += p * odds[childBase + k];
+            }
+        }
+        return slot;
+    }
+
+    // Finds the slot of a state, or the empty slot where it belongs, by linear probing
+    private int find(long composition, int state) {
+        long h = (composition ^ (long) state * 0x9E3779B97F4A7C15L) * 0xBF58476D1CE4E5B9L;
+        int slot = (int) (h >>> 40) & (CAPACITY - 1);
+        while (states[slot] != 0 && (states[slot] != state || compositions[slot] != composition)) {
+            slot = (slot + 1) & (CAPACITY - 1);
+        }
+        if (states[slot] == 0 && entries >= CAPACITY - 1) {
+            throw new IllegalStateException("dealer odds table is full");
+        }
+        return slot;
+    }
+}
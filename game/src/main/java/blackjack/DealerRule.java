@@ -0,0 +1,45 @@
+package blackjack;
+
+/**DealerRule Interface
+  * When the dealer must take another card. A table resolves its rules to one of these
+  * constants when it is created, so the dealer's loop calls a single final implementation
+  * instead of testing rule flags on every card.
+  * @since  18/10/2026*/
+
+public interface DealerRule {
+
+    /**
+     * Dealer stands on every 17 (S17).
+     */
+    DealerRule STANDS_SOFT_17 = new DealerRule() {
+        public boolean mustHit(int total, boolean soft) {
+            return total < 17;
+        }
+
+        public String toString() {
+            return "S17";
+        }
+    };
+
+    /**
+     * Dealer hits a soft 17, an Ace counted as 11 with cards worth 6 (H17).
+     */
+    DealerRule HITS_SOFT_17 = new DealerRule() {
+        public boolean mustHit(int total, boolean soft) {
+            return total < 17 || (total == 17 && soft);
+        }
+
+        public String toString() {
+            return "H17";
+        }
+    };
+
+    /**
+     * Decides whether the dealer draws.
+     *
+     * @param total the best total of the dealer's hand
+     * @param soft  whether an Ace is counted as 11 in that total
+     * @return true if the dealer must take another card
+     */
+    boolean mustHit(int total, boolean soft);
+}
@@ -0,0 +1,341 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**GameResultLog Class
+  * Appends round results to the results file from a background writer thread.
+  * Callers only publish the two final scores into a lock-free ring buffer; the writer
+  * drains it, formats the usual "Player Score: 19, Dealer Score: 17, Result: Player Wins"
+  * lines into a reusable buffer and writes them in batches to one long-lived channel.
+  * Only the writer touches the file: clear() asks it to truncate, and once closed it
+  * seals the ring buffer on its way out, so a result is either written, cleared or counted
+  * as dropped.
+  * @since  18/10/2026*/
+
+public class GameResultLog implements AutoCloseable {
+
+    /**
+     * What to do when the ring buffer is full.
+     */
+    public enum BackPressure {
+        BLOCK,  // Wait for the writer to make room
+        DROP    // Discard the result and count it in getDroppedCount()
+    }
+
+    public static final String DEFAULT_FILE = "game_results.txt";
+
+    // Longest line the writer can produce: two full-width ints and the longest result text
+    private static final int MAX_LINE_BYTES = 96;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final long SEALED = Long.MIN_VALUE;  // Set in the tail by the stopped writer, refusing further results
+
+    private static final byte[] PLAYER_SCORE = ascii("Player Score: ");
+    private static final byte[] DEALER_SCORE = ascii(", Dealer Score: ");
+    private static final byte[][] RESULTS = {
+        ascii(", Result: Player Busted\n"),
+        ascii(", Result: Dealer Busted\n"),
+        ascii(", Result: Player Wins\n"),
+        ascii(", Result: Dealer Wins\n")
+    };
+
+    private static GameResultLog defaultLog;  // Shared log of the game, created on first use
+
+    private static final LatencyRecorder WRITE_LATENCY = MetricsRegistry.getDefault().latency("results.write");
+
+    // Ring buffer slots: each holds both scores packed into one long, and a sequence
+    // number telling producers and the writer whose turn the slot is (Vyukov's bounded queue)
+    private final long[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();  // Next sequence to be claimed by a producer
+    private long head = 0;                              // Next sequence to be written, owned by the writer
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final long flushIntervalNanos;
+    private final BackPressure backPressure;
+    private final Thread writer;
+
+    private final AtomicLong flushTarget = new AtomicLong();  // Sequence that flush() is waiting on
+    private final AtomicLong clearTarget = new AtomicLong();  // One past the sequence clear() empties the file after
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written = 0;                        // Every sequence below this is on disk
+    private volatile long cleared = 0;                        // clearTarget as last carried out by the writer
+    private volatile boolean closed = false;
+
+    /**
+     * Opens the log on the given file, appending to what is already there.
+     *
+     * @param file            the file to append to
+     * @param capacity        number of results the ring buffer holds, rounded up to a power of two
+     * @param flushInterval   longest time in milliseconds a result waits before being written
+     * @param flushBytes      number of buffered bytes that triggers a write
+     * @param backPressure    what to do when the ring buffer is full
+     * @throws IOException if the file cannot be opened
+     */
+    public GameResultLog(Path file, int capacity, long flushInterval, int flushBytes, BackPressure backPressure) throws IOException {
+        if (capacity < 1 || flushInterval < 1 || flushBytes < 1) {
+            throw new IllegalArgumentException("capacity, flush interval and flush size must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        slots = new long[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        buffer = ByteBuffer.allocateDirect(flushBytes + MAX_LINE_BYTES);
+        flushIntervalNanos = flushInterval * 1_000_000;
+        this.backPressure = backPressure;
+
+        writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeLoop();
+            }
+        }, "game-result-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Returns the log of game_results.txt (or of the file named by -Dblackjack.results)
+     * shared by the whole game, flushed and closed when the JVM shuts down.
+     */
+    public static synchronized GameResultLog getDefault() {
+        if (defaultLog == null) {
+            try {
+                defaultLog = new GameResultLog(Paths.get(System.getProperty("blackjack.results", DEFAULT_FILE)), 8192, 200, 64 * 1024, BackPressure.BLOCK);
+            } catch (IOException e) {
+                throw new IllegalStateException("Error opening the game results file: " + e.getMessage(), e);
+            }
+            final GameResultLog log = defaultLog;
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    log.close();
+                }
+            }, "game-result-log-shutdown"));
+        }
+        return defaultLog;
+    }
+
+    /**
+     * Queues the result of a round. Never touches the file itself. Once the log is closed,
+     * as during shutdown, results are dropped and counted in getDroppedCount() rather than
+     * failing the caller.
+     *
+     * @param playerScore the player's final total
+     * @param dealerScore the dealer's final total
+     * @return false if the result was dropped because the buffer was full or the log closed
+     */
+    public boolean log(int playerScore, int dealerScore) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        long record = ((long) playerScore << 32) | (dealerScore & 0xFFFFFFFFL);
+        while (true) {
+            long sequence = tail.get();
+            if (sequence < 0) {  // Sealed: the writer has stopped and would never write it
+                dropped.incrementAndGet();
+                return false;
+            }
+            int index = (int) sequence & mask;
+            long available = sequences.get(index) - sequence;
+            if (available == 0) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    slots[index] = record;
+                    sequences.lazySet(index, sequence + 1);  // Publishes the slot to the writer
+                    return true;
+                }
+            } else if (available < 0) {
+                // The writer has not yet freed this slot, so the buffer is full; once
+                // closed, the writer may never free it
+                if (backPressure == BackPressure.DROP || closed) {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                LockSupport.unpark(writer);
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Waits until every result queued before this call has been written to the file.
+     */
+    public void flush() {
+        long target = tail.get();
+        flushTarget.accumulateAndGet(target, Math::max);
+        while (written < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, 50_000);
+        }
+    }
+
+    /**
+     * Empties the file of everything written and queued so far, and waits until it is done.
+     * The writer truncates the file between two batches, so results queued meanwhile are
+     * written after it rather than cut off or interleaved.
+     */
+    public void clear() {
+        long target = tail.get();
+        if (target < 0) {
+            return;  // Closed
+        }
+        clearTarget.accumulateAndGet(target + 1, Math::max);
+        while (cleared <= target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, 50_000);
+        }
+    }
+
+    /**
+     * Writes out everything queued so far, stops the writer and closes the file. Results
+     * logged from then on are dropped and counted.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing the game results file: " + e.getMessage());
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Body of the writer thread: drain, format, and write in batches
+    private void writeLoop() {
+        long lastWrite = System.nanoTime();
+        while (true) {
+            boolean stopping = closed;  // Read before draining so nothing queued before close() is missed
+            long clearAt = clearTarget.get();
+            boolean clearing = clearAt > cleared;
+            long end = clearing ? clearAt - 1 : Long.MAX_VALUE;  // A clear stops the draining at its sequence
+            int drained = 0;
+            while (buffer.remaining() >= MAX_LINE_BYTES && head < end) {
+                int index = (int) head & mask;
+                if (sequences.get(index) != head + 1) {
+                    break;  // Nothing published at the head yet
+                }
+                long record = slots[index];
+                sequences.lazySet(index, head + slots.length);  // Frees the slot for producers
+                head++;
+                format((int) (record >> 32), (int) record);
+                drained++;
+            }
+
+            long now = System.nanoTime();
+            if (clearing && head == end) {
+                buffer.clear();  // Lines that would only be cut off again
+                try {
+                    channel.truncate(0);
+                } catch (IOException e) {
+                    System.err.println("Error clearing the game results file: " + e.getMessage());
+                }
+                written = head;
+                cleared = clearAt;
+                continue;
+            }
+            if (buffer.position() > 0
+                    && (buffer.remaining() < MAX_LINE_BYTES || now - lastWrite >= flushIntervalNanos
+                        || flushTarget.get() > written || stopping)) {
+                writeBuffer();
+                lastWrite = now;
+            }
+            if (buffer.position() == 0) {
+                written = head;
+            }
+
+            // Seals the tail so that no producer can claim a slot once the writer has gone;
+            // fails, and drains again, if one claimed a slot in the meantime
+            if (stopping && !clearing && buffer.position() == 0 && tail.compareAndSet(head, head | SEALED)) {
+                return;
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(this, Math.min(IDLE_PARK_NANOS, flushIntervalNanos));
+            }
+        }
+    }
+
+    private void writeBuffer() {
+        long start = System.nanoTime();
+        buffer.flip();
+        synchronized (channel) {
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing to game results file: " + e.getMessage());
+            }
+        }
+        buffer.clear();
+        WRITE_LATENCY.recordSince(start);
+    }
+
+    // Formats one line exactly as the original per-round writer did
+    private void format(int playerScore, int dealerScore) {
+        buffer.put(PLAYER_SCORE);
+        putInt(playerScore);
+        buffer.put(DEALER_SCORE);
+        putInt(dealerScore);
+        if (playerScore > 21) {
+            buffer.put(RESULTS[0]);
+        } else if (dealerScore > 21) {
+            buffer.put(RESULTS[1]);
+        } else {
+            buffer.put(playerScore > dealerScore ? RESULTS[2] : RESULTS[3]);
+        }
+    }
+
+    // Writes the decimal digits of a value without going through a String
+    private void putInt(int value) {
+        long v = value;
+        if (v < 0) {
+            buffer.put((byte) '-');
+            v = -v;
+        }
+        long divisor = 1;
+        while (divisor * 10 <= v) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            buffer.put((byte) ('0' + v / divisor));
+            v %= divisor;
+            divisor /= 10;
+        }
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
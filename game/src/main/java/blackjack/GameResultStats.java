@@ -0,0 +1,363 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**GameResultStats Class
+  * Live statistics over the results file that GameResultLog appends to. Each update() reads
+  * only what was appended since the last one, from the offset reached so far, so a history of
+  * any size is read once and then followed as it grows. Lines are parsed a byte at a time by a
+  * small state machine that carries over a line split between reads, with no regex and no
+  * String per line. The aggregates are counters, score histograms and streaks of fixed size.
+  *
+  * If the file becomes shorter than the offset, it was cleared (see clearGameResultsFile()), and
+  * the statistics start again from empty. Not thread safe: update and read from one thread.
+  * @since  18/10/2026*/
+
+public class GameResultStats {
+    // Results, in the order GameResultLog writes them
+    public static final int PLAYER_BUSTED = 0;
+    public static final int DEALER_BUSTED = 1;
+    public static final int PLAYER_WINS = 2;
+    public static final int DEALER_WINS = 3;
+    private static final String[] RESULT_NAMES = {"Player Busted", "Dealer Busted", "Player Wins", "Dealer Wins"};
+
+    public static final int SCORES = 32;  // Histogram buckets, one per score; the last also holds any higher score
+
+    private static final int READ_SIZE = 1024 * 1024;
+    private static final int MAX_SCORE_DIGITS = 6;  // Longer numbers make the line malformed
+
+    // Where the parser is in a line: "Player Score: 19, Dealer Score: 17, Result: Player Wins"
+    private static final int LABEL = 0;        // Before the first colon
+    private static final int PLAYER = 1;       // In the player's score
+    private static final int GAP = 2;          // Between the player's score and the second colon
+    private static final int DEALER = 3;       // In the dealer's score
+    private static final int RESULT_GAP = 4;   // Between the dealer's score and the third colon
+    private static final int RESULT = 5;       // In the result text
+    private static final int BAD = 6;          // Not a result line; skipped to its end
+
+    private final Path file;
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+    private FileChannel channel;  // Opened once the file exists
+    private long offset = 0;      // Bytes of the file parsed so far
+
+    // State of the line being parsed, kept between reads
+    private int field = LABEL;
+    private boolean empty = true;  // Nothing but line breaks seen in the line yet
+    private int value;
+    private int digits;
+    private boolean negative;
+    private int playerScore;
+    private int dealerScore;
+    private byte who;              // First letter of the result's first word, P or D
+    private byte what;             // First letter of its second word, B or W
+    private boolean wordEnded;     // Whether the first word of the result has ended
+
+    // Aggregates
+    private final long[] results = new long[RESULT_NAMES.length];
+    private final long[] playerScores = new long[SCORES];
+    private final long[] dealerScores = new long[SCORES];
+    private long rounds;
+    private long malformed;
+    private int streak;            // Rounds won in a row if positive, lost in a row if negative
+    private int longestWinStreak;
+    private int longestLossStreak;
+
+    /**
+     * @param file the results file to follow; it need not exist yet
+     */
+    public GameResultStats(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads whatever was appended to the file since the last update.
+     *
+     * @return whether the statistics changed
+     * @throws IOException if the file cannot be read
+     */
+    public boolean update() throws IOException {
+        if (channel == null) {
+            if (!Files.exists(file)) {
+                return false;
+            }
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        }
+        boolean changed = false;
+        if (channel.size() < offset) {
+            reset();  // Cleared
+            changed = true;
+        }
+        int read;
+        while ((read = channel.read(buffer, offset)) > 0) {
+            parse(buffer.array(), read);
+            offset += read;
+            buffer.clear();
+            changed = true;
+        }
+        buffer.clear();
+        return changed;
+    }
+
+    /**
+     * Closes the file.
+     */
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Number of lines that were not result lines.
+     */
+    public long getMalformedLines() {
+        return malformed;
+    }
+
+    /**
+     * Number of rounds with a result, such as PLAYER_WINS.
+     */
+    public long getResultCount(int result) {
+        return results[result];
+    }
+
+    /**
+     * Share of rounds the player won, by the higher score or by the dealer busting.
+     */
+    public double getWinRate() {
+        return share(results[PLAYER_WINS] + results[DEALER_BUSTED]);
+    }
+
+    /**
+     * Share of rounds the player busted.
+     */
+    public double getBustRate() {
+        return share(results[PLAYER_BUSTED]);
+    }
+
+    /**
+     * Share of rounds the dealer busted.
+     */
+    public double getDealerBustRate() {
+        return share(results[DEALER_BUSTED]);
+    }
+
+    /**
+     * Number of rounds the player ended with a score, the last bucket holding every higher score.
+     */
+    public long getPlayerScoreCount(int score) {
+        return playerScores[score];
+    }
+
+    /**
+     * Number of rounds the dealer ended with a score, the last bucket holding every higher score.
+     */
+    public long getDealerScoreCount(int score) {
+        return dealerScores[score];
+    }
+
+    /**
+     * The current streak: rounds won in a row if positive, lost in a row if negative.
+     */
+    public int getStreak() {
+        return streak;
+    }
+
+    public int getLongestWinStreak() {
+        return longestWinStreak;
+    }
+
+    public int getLongestLossStreak() {
+        return longestLossStreak;
+    }
+
+    /**
+     * One line for the status bar.
+     */
+    public String getSummary() {
+        return String.format("History: %,d rounds, won %.1f%%, busted %.1f%%, streak %s%d (best W%d)",
+                             rounds, getWinRate() * 100, getBustRate() * 100,
+                             streak < 0 ? "L" : "W", Math.abs(streak), longestWinStreak);
+    }
+
+    /**
+     * Every aggregate, over several lines.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Rounds: %,d (%,d lines skipped)%n", rounds, malformed));
+        for (int i = 0; i < RESULT_NAMES.length; i++) {
+            report.append(String.format("  %-14s %,12d  %5.1f%%%n", RESULT_NAMES[i], results[i], share(results[i]) * 100));
+        }
+        report.append(String.format("Win rate: %.2f%%, bust rate: %.2f%%, dealer bust rate: %.2f%%%n",
+                                    getWinRate() * 100, getBustRate() * 100, getDealerBustRate() * 100));
+        report.append(String.format("Streaks: current %s%d, longest won %d, longest lost %d%n",
+                                    streak < 0 ? "L" : "W", Math.abs(streak), longestWinStreak, longestLossStreak));
+        report.append(String.format("Score      %12s %12s%n", "player", "dealer"));
+        for (int score = 0; score < SCORES; score++) {
+            if (playerScores[score] > 0 || dealerScores[score] > 0) {
+                report.append(String.format("  %2d%s     %12d %12d%n", score, score == SCORES - 1 ? "+" : " ",
+                                            playerScores[score], dealerScores[score]));
+            }
+        }
+        return report.toString();
+    }
+
+    private double share(long count) {
+        return rounds == 0 ? 0 : (double) count / rounds;
+    }
+
+    // Empties the statistics and starts again from the beginning of the file
+    private void reset() {
+        offset = 0;
+        startLine();
+        Arrays.fill(results, 0);
+        Arrays.fill(playerScores, 0);
+        Arrays.fill(dealerScores, 0);
+        rounds = 0;
+        malformed = 0;
+        streak = 0;
+        longestWinStreak = 0;
+        longestLossStreak = 0;
+    }
+
+    // Runs the line state machine over a block of bytes
+    private void parse(byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (b == '\n') {
+                endLine();
+                continue;
+            }
+            if (b == '\r' || field == BAD) {
+                continue;
+            }
+            empty = false;
+            switch (field) {
+                case LABEL:
+                case GAP:
+                case RESULT_GAP:
+                    if (b == ':') {
+                        field++;
+                        value = 0;
+                        digits = 0;
+                        negative = false;
+                    }
+                    break;
+                case PLAYER:
+                case DEALER:
+                    if (b >= '0' && b <= '9') {
+                        value = value * 10 + (b - '0');
+                        if (++digits > MAX_SCORE_DIGITS) {
+                            field = BAD;
+                        }
+                    } else if (b == '-' && digits == 0 && !negative) {
+                        negative = true;
+                    } else if (b == ',' && digits > 0) {
+                        if (field == PLAYER) {
+                            playerScore = negative ? -value : value;
+                        } else {
+                            dealerScore = negative ? -value : value;
+                        }
+                        field++;
+                    } else if (b != ' ' || digits > 0) {
+                        field = BAD;
+                    }
+                    break;
+                case RESULT:
+                    if (b == ' ') {
+                        wordEnded = who != 0;
+                    } else if (who == 0) {
+                        who = b;
+                    } else if (wordEnded && what == 0) {
+                        what = b;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // Counts the line just ended, if it was a result line
+    private void endLine() {
+        if (field == RESULT && (who == 'P' || who == 'D') && (what == 'B' || what == 'W')) {
+            int result = what == 'B' ? (who == 'P' ? PLAYER_BUSTED : DEALER_BUSTED)
+                                     : (who == 'P' ? PLAYER_WINS : DEALER_WINS);
+            record(result, playerScore, dealerScore);
+        } else if (!empty) {
+            malformed++;
+        }
+        startLine();
+    }
+
+    private void startLine() {
+        field = LABEL;
+        empty = true;
+        value = 0;
+        digits = 0;
+        negative = false;
+        who = 0;
+        what = 0;
+        wordEnded = false;
+    }
+
+    private void record(int result, int player, int dealer) {
+        rounds++;
+        results[result]++;
+        playerScores[bucket(player)]++;
+        dealerScores[bucket(dealer)]++;
+        if (result == PLAYER_WINS || result == DEALER_BUSTED) {
+            streak = streak > 0 ? streak + 1 : 1;
+            longestWinStreak = Math.max(longestWinStreak, streak);
+        } else {
+            streak = streak < 0 ? streak - 1 : -1;
+            longestLossStreak = Math.max(longestLossStreak, -streak);
+        }
+    }
+
+    private static int bucket(int score) {
+        return Math.max(0, Math.min(SCORES - 1, score));
+    }
+
+    /**
+     * Prints the statistics of a results file, once or as it grows.
+     *
+     * @param args path of the results file (game_results.txt by default), and --follow to keep
+     *             reading it and print a summary line whenever it changes
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path file = Paths.get(args.length > 0 && !args[0].equals("--follow") ? args[0] : GameResultLog.DEFAULT_FILE);
+        boolean follow = args.length > 0 && args[args.length - 1].equals("--follow");
+        GameResultStats stats = new GameResultStats(file);
+        long start = System.nanoTime();
+        stats.update();
+        long elapsed = System.nanoTime() - start;
+        System.out.print(stats.getReport());
+        System.out.printf("Read %,d bytes in %.0f ms (%.0f MB/s)%n", stats.getOffset(), elapsed / 1e6,
+                          stats.getOffset() / 1048576.0 / Math.max(elapsed / 1e9, 1e-9));
+        while (follow) {
+            Thread.sleep(1000);
+            if (stats.update()) {
+                System.out.println(stats.getSummary());
+            }
+        }
+        stats.close();
+    }
+}
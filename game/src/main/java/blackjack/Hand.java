@@ -0,0 +1,105 @@
+package blackjack;
+
+import java.util.Arrays;
+
+/**Hand Class
+  * A hand of encoded cards that keeps its total up to date as cards are added,
+  * so the total, bust and blackjack checks are constant time and allocation free.
+  * The card array grows when a hand outlives its capacity and keeps its size when the
+  * hand is cleared, so a hand reused round after round stops allocating once warm.
+  * @since  18/10/2026*/
+
+public class Hand {
+    private byte[] cards;        // Card codes in the order they were dealt
+    private int size = 0;        // Number of cards in the hand
+    private int hardTotal = 0;   // Total with every Ace counted as 1
+    private int aceCount = 0;    // Number of Aces in the hand
+
+    /**
+     * @param capacity the number of cards the hand holds before it has to grow
+     */
+    public Hand(int capacity) {
+        cards = new byte[capacity];
+    }
+
+    /**
+     * Adds a card to the hand and updates the running total.
+     *
+     * @param code the encoded card
+     */
+    public void add(byte code) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, Math.max(4, size * 2));
+        }
+        cards[size++] = code;
+        hardTotal += CardCode.hardValue(code);
+        if (CardCode.isAce(code)) {
+            aceCount++;
+        }
+    }
+
+    /**
+     * Empties the hand so it can be reused for the next round.
+     */
+    public void clear() {
+        size = 0;
+        hardTotal = 0;
+        aceCount = 0;
+    }
+
+    /**
+     * Takes the last card out of the hand, as when a pair is split.
+     *
+     * @return the card removed
+     */
+    public byte removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("hand is empty");
+        }
+        byte code = cards[--size];
+        hardTotal -= CardCode.hardValue(code);
+        if (CardCode.isAce(code)) {
+            aceCount--;
+        }
+        return code;
+    }
+
+    /**
+     * Whether the hand is two cards of the same value, ten-valued cards counting as a pair.
+     */
+    public boolean isPair() {
+        return size == 2 && CardCode.hardValue(cards[0]) == CardCode.hardValue(cards[1]);
+    }
+
+    public byte get(int index) {
+        return cards[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getAceCount() {
+        return aceCount;
+    }
+
+    /**
+     * Returns the best total of the hand: one Ace counts as 11 when that does not bust it.
+     */
+    public int getTotal() {
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
+    // A hand is soft when an Ace can count as 11 without going over 21
+    public boolean isSoft() {
+        return aceCount > 0 && hardTotal <= 11;
+    }
+
+    public boolean isBusted() {
+        return hardTotal > 21;
+    }
+
+    public boolean isBlackjack() {
+        return size == 2 && getTotal() == 21;
+    }
+}
@@ -0,0 +1,131 @@
+package blackjack;
+
+import java.util.Arrays;
+
+/**HandBatch Class
+  * Many hands at once in a struct-of-arrays layout for BatchHandEvaluator. Card k of every
+  * hand sits in column k, one lane per hand, holding the card's value (1 for an Ace up to
+  * 10) and 0 past the end of the hand, so a column can be summed across lanes without
+  * masking. After evaluation the totals and SOFT, BUST and BLACKJACK flags of each hand are
+  * read from their own arrays.
+  *
+  * Lanes are padded to a multiple of PAD so vector loops never need a tail. A batch is
+  * meant to be filled, evaluated and cleared over and over without allocating.
+  * @since  18/10/2026*/
+
+public class HandBatch {
+    public static final int MAX_CARDS = 12;  // Cards per hand; 12 tens still fit a byte total
+    public static final int PAD = 64;        // Lanes are allocated in multiples of the widest byte vector
+
+    // Bits of flags()
+    public static final byte SOFT = 1;
+    public static final byte BUST = 2;
+    public static final byte BLACKJACK = 4;
+
+    final byte[][] values;  // values[k][hand]: value of the hand's card k, or 0
+    final byte[] counts;    // Number of cards in each hand
+    final byte[] totals;    // Best total of each hand, set by the evaluator
+    final byte[] flags;     // SOFT, BUST and BLACKJACK bits of each hand, set by the evaluator
+    private final int capacity;
+    private int size = 0;
+    private int columns = 0;  // Most cards in any hand of the batch
+
+    /**
+     * @param capacity the number of hands the batch holds
+     */
+    public HandBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        int lanes = (capacity + PAD - 1) / PAD * PAD;
+        values = new byte[MAX_CARDS][lanes];
+        counts = new byte[lanes];
+        totals = new byte[lanes];
+        flags = new byte[lanes];
+    }
+
+    /**
+     * Adds an empty hand.
+     *
+     * @return the index of the hand
+     */
+    public int addHand() {
+        if (size == capacity) {
+            throw new IllegalStateException("batch is full");
+        }
+        return size++;
+    }
+
+    /**
+     * Adds a copy of a hand.
+     *
+     * @param hand the hand to copy
+     * @return the index of the copy
+     */
+    public int add(Hand hand) {
+        int index = addHand();
+        for (int i = 0; i < hand.size(); i++) {
+            addCard(index, hand.get(i));
+        }
+        return index;
+    }
+
+    /**
+     * Adds an encoded card to a hand of the batch.
+     *
+     * @param hand index of the hand
+     * @param code the encoded card
+     */
+    public void addCard(int hand, byte code) {
+        int count = counts[hand];
+        if (count == MAX_CARDS) {
+            throw new IllegalArgumentException("a batched hand holds at most " + MAX_CARDS + " cards");
+        }
+        values[count][hand] = (byte) CardCode.hardValue(code);
+        counts[hand] = (byte) (count + 1);
+        columns = Math.max(columns, count + 1);
+    }
+
+    /**
+     * Empties the batch, zeroing only the lanes and columns that were used.
+     */
+    public void clear() {
+        int lanes = lanes();
+        for (int k = 0; k < columns; k++) {
+            Arrays.fill(values[k], 0, lanes, (byte) 0);
+        }
+        Arrays.fill(counts, 0, lanes, (byte) 0);
+        size = 0;
+        columns = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getTotal(int hand) {
+        return totals[hand];
+    }
+
+    public boolean isSoft(int hand) {
+        return (flags[hand] & SOFT) != 0;
+    }
+
+    public boolean isBusted(int hand) {
+        return (flags[hand] & BUST) != 0;
+    }
+
+    public boolean isBlackjack(int hand) {
+        return (flags[hand] & BLACKJACK) != 0;
+    }
+
+    // Lanes in use, rounded up to the padding
+    int lanes() {
+        return (size + PAD - 1) / PAD * PAD;
+    }
+
+    int columns() {
+        return columns;
+    }
+}
@@ -0,0 +1,54 @@
+package blackjack;
+
+/**LatencyRecorder Class
+  * A latency histogram that any number of threads can record into. Recordings are spread
+  * over a few LatencyHistogram stripes picked by thread, each behind its own lock, so
+  * threads rarely meet on the same lock and a reader merges the stripes for a snapshot.
+  * @since  18/10/2026*/
+
+public class LatencyRecorder {
+    private static final int STRIPES = 8;  // Power of two
+
+    private final LatencyHistogram[] stripes = new LatencyHistogram[STRIPES];
+
+    public LatencyRecorder() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        LatencyHistogram stripe = stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+        synchronized (stripe) {
+            stripe.record(nanos);
+        }
+    }
+
+    /**
+     * Records the time elapsed since a start time taken from System.nanoTime().
+     *
+     * @param startNanos the start of the measured work
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Copies everything recorded so far into a histogram.
+     *
+     * @param into receives the merged stripes; its previous contents are discarded
+     */
+    public void snapshot(LatencyHistogram into) {
+        into.reset();
+        for (LatencyHistogram stripe : stripes) {
+            synchronized (stripe) {
+                into.merge(stripe);
+            }
+        }
+    }
+}
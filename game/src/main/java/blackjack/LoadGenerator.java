@@ -0,0 +1,130 @@
+package blackjack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**LoadGenerator Class
+  * Opens many tables on a TableServer at once and plays them as fast as the server answers,
+  * hitting below 17 like the dealer. Reports the p50/p99 latency of each action and the
+  * measured action rate, in all and per core, over the time the tables actually played.
+  * @since  18/10/2026*/
+
+public class LoadGenerator {
+
+    /**
+     * Plays the given number of tables for the given time.
+     *
+     * @param port    port of the server on the loopback interface
+     * @param tables  number of tables to open at once
+     * @param seconds how long to play
+     * @return the merged latency of every action
+     */
+    public static LatencyHistogram run(final int port, int tables, int seconds) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        final LatencyHistogram[] histograms = new LatencyHistogram[tables];
+        ExecutorService clients = TableServer.newSessionExecutor();
+        for (int i = 0; i < tables; i++) {
+            final LatencyHistogram histogram = new LatencyHistogram();
+            histograms[i] = histogram;
+            clients.execute(new Runnable() {
+                @Override
+                public void run() {
+                    playTable(port, deadline, histogram);
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        LatencyHistogram total = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms) {
+            total.merge(histogram);
+        }
+        return total;
+    }
+
+    // Plays rounds on one connection until the deadline, timing every request and reply
+    private static void playTable(int port, long deadline, LatencyHistogram histogram) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            String reply = send("DEAL", in, out, histogram);
+            while (System.nanoTime() < deadline) {
+                if (reply == null || reply.startsWith("ERROR")) {
+                    System.err.println("Unexpected reply from table: " + reply);
+                    return;
+                }
+                if (reply.startsWith("FINISHED")) {
+                    reply = send("DEAL", in, out, histogram);
+                } else {
+                    int playerTotal = Integer.parseInt(reply, 8, reply.indexOf(' ', 8), 10);
+                    reply = send(playerTotal < 17 ? "HIT" : "STAND", in, out, histogram);
+                }
+            }
+            out.println("QUIT");
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Error talking to table server: " + e.getMessage());
+        }
+    }
+
+    private static String send(String command, BufferedReader in, PrintWriter out, LatencyHistogram histogram) throws IOException {
+        long start = System.nanoTime();
+        out.print(command);
+        out.print('\n');
+        out.flush();
+        String reply = in.readLine();
+        histogram.record(System.nanoTime() - start);
+        return reply;
+    }
+
+    /**
+     * Runs a load test from the command line. Without a port, a server is started in this JVM.
+     *
+     * @param args optional number of tables, seconds to run and port of a running server
+     */
+    public static void main(String[] args) throws Exception {
+        int tables = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        TableServer server = null;
+        int port;
+        if (args.length > 2) {
+            port = Integer.parseInt(args[2]);
+        } else {
+            final TableServer local = new TableServer(0, 6);
+            server = local;
+            port = local.getPort();
+            Thread acceptor = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    local.serve();
+                }
+            }, "table-server");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        long start = System.nanoTime();
+        LatencyHistogram latency = run(port, tables, seconds);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        int cores = Runtime.getRuntime().availableProcessors();
+        double actionsPerSecond = latency.getCount() / elapsed;
+        System.out.println("Tables: " + tables + " on " + cores + (cores == 1 ? " core" : " cores"));
+        System.out.printf("Actions: %d in %.1f s (%,.0f per second, %,.0f per second per core)%n",
+                          latency.getCount(), elapsed, actionsPerSecond, actionsPerSecond / cores);
+        System.out.printf("Latency p50: %.1f us, p99: %.1f us, max: %.1f us%n",
+                          latency.getPercentile(50) / 1000.0, latency.getPercentile(99) / 1000.0, latency.getMax() / 1000.0);
+        if (server != null) {
+            server.close();
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package blackjack;
+
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -25,7 +27,20 @@ public class MainScreen {
         frame.setLocationRelativeTo(null);
         frame.setResizable(false);
 
-        panel = new JPanel();
+        panel = new JPanel() {
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                if (Startup.firstFrame() && Startup.isTimed()) {
+                    // A timed start goes straight on to the first deal
+                    SwingUtilities.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            startNewGame();
+                        }
+                    });
+                }
+            }
+        };
         panel.setLayout(new GridLayout(3, 1));
 
         JLabel titleLabel = new JLabel("Welcome to Blackjack!", SwingConstants.CENTER);
@@ -57,17 +72,33 @@ public class MainScreen {
     }
 
     /**
-     * Starts a new Blackjack game.
+     * Starts a new Blackjack game, or shows on the main screen why the table could not be
+     * set up, as when a -Dblackjack.* setting is invalid.
      */
     private void startNewGame() {
-        frame.dispose();  // Close the main menu
-        BlackJack.startNewRound();  // Start a new round of Blackjack
+        Throwable failure = Startup.getFailure();
+        if (failure == null) {
+            try {
+                BlackJack.startNewRound();  // Start a new round of Blackjack
+                frame.dispose();  // Close the main menu
+                return;
+            } catch (LinkageError e) {
+                // The table's setup failed here, or in the background after it was checked
+                failure = Startup.getFailure() != null ? Startup.getFailure()
+                    : e instanceof ExceptionInInitializerError && e.getCause() != null ? e.getCause() : e;
+            }
+        }
+        System.err.println("Error starting the game: " + failure);
+        JOptionPane.showMessageDialog(frame, "The game could not be started:\n" + failure,
+                                      "Blackjack", JOptionPane.ERROR_MESSAGE);
     }
 
     /**
      * Main method - Entry point for the application.
+     * Card images and the table are loaded in the background while the menu is shown.
      */
     public static void main(String[] args) {
+        Startup.begin();
         SwingUtilities.invokeLater(new Runnable() {
             @Override
             public void run() {
@@ -0,0 +1,159 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**MetricsRegistry Class
+  * Named counters and latency recorders for watching the game in production.
+  * Counters are LongAdders, which stripe their cells across threads, and latencies go to
+  * LatencyRecorders, so recording costs a few nanoseconds and never blocks on a reader.
+  * Callers look a metric up once and keep it in a field; only the lookup touches the map.
+  *
+  * The registry can write itself out as JSON at a fixed interval from a daemon thread.
+  * The default registry does so when started with -Dblackjack.metrics=&lt;file&gt;, every
+  * -Dblackjack.metrics.interval milliseconds (10 seconds by default) and once more at exit.
+  * @since  18/10/2026*/
+
+public class MetricsRegistry {
+    private static MetricsRegistry defaultRegistry;  // Shared registry of the process, created on first use
+
+    private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<String, LongAdder>();
+    private final Map<String, LatencyRecorder> latencies = new ConcurrentSkipListMap<String, LatencyRecorder>();
+    private final long startNanos = System.nanoTime();
+
+    // State of the last dump, used for the per-second rates; only touched while dumping
+    private final Map<String, Long> lastCounts = new ConcurrentSkipListMap<String, Long>();
+    private final LatencyHistogram scratch = new LatencyHistogram();
+    private long lastDumpNanos = startNanos;
+
+    /**
+     * Returns the registry shared by the whole process, dumping itself to the file named
+     * by the blackjack.metrics system property if it is set.
+     */
+    public static synchronized MetricsRegistry getDefault() {
+        if (defaultRegistry == null) {
+            defaultRegistry = new MetricsRegistry();
+            String file = System.getProperty("blackjack.metrics");
+            if (file != null) {
+                defaultRegistry.startDump(Paths.get(file), Long.getLong("blackjack.metrics.interval", 10_000));
+            }
+        }
+        return defaultRegistry;
+    }
+
+    /**
+     * Returns the counter of the given name, creating it on first use.
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Returns the latency recorder of the given name, creating it on first use.
+     */
+    public LatencyRecorder latency(String name) {
+        return latencies.computeIfAbsent(name, key -> new LatencyRecorder());
+    }
+
+    /**
+     * Starts writing the registry to a file at a fixed interval, and once more when the JVM exits.
+     * Each dump replaces the file as a whole, so readers never see a partly written one.
+     *
+     * @param file     the JSON file to write
+     * @param interval milliseconds between dumps
+     */
+    public void startDump(final Path file, final long interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("dump interval must be positive: " + interval);
+        }
+        Thread dumper = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (true) {
+                    try {
+                        Thread.sleep(interval);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    dumpQuietly(file);
+                }
+            }
+        }, "metrics-dump");
+        dumper.setDaemon(true);
+        dumper.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                dumpQuietly(file);
+            }
+        }, "metrics-dump-shutdown"));
+    }
+
+    /**
+     * Writes the registry to a file as JSON, replacing it.
+     *
+     * @param file the file to write
+     */
+    public void dump(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, toJson().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void dumpQuietly(Path file) {
+        try {
+            dump(file);
+        } catch (IOException e) {
+            System.err.println("Error writing metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Describes every metric as JSON: each counter with its total and its rate per second
+     * since the previous call, and each latency with its count, mean, percentiles and
+     * maximum in nanoseconds since startup.
+     */
+    public synchronized String toJson() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1, now - lastDumpNanos) / 1e9;
+        lastDumpNanos = now;
+
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"timestamp\": ").append(System.currentTimeMillis()).append(",\n");
+        json.append("  \"uptimeMillis\": ").append((now - startNanos) / 1_000_000).append(",\n");
+        json.append("  \"counters\": {");
+        String separator = "\n";
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            long count = counter.getValue().sum();
+            Long last = lastCounts.put(counter.getKey(), count);
+            double rate = (count - (last == null ? 0 : last)) / seconds;
+            json.append(separator).append("    \"").append(counter.getKey()).append("\": {\"count\": ").append(count)
+                .append(", \"perSecond\": ").append(String.format(Locale.ROOT, "%.2f", rate)).append('}');
+            separator = ",\n";
+        }
+        json.append("\n  },\n");
+        json.append("  \"latencies\": {");
+        separator = "\n";
+        for (Map.Entry<String, LatencyRecorder> latency : latencies.entrySet()) {
+            latency.getValue().snapshot(scratch);
+            json.append(separator).append("    \"").append(latency.getKey()).append("\": {\"count\": ").append(scratch.getCount())
+                .append(", \"mean\": ").append(Math.round(scratch.getMean()))
+                .append(", \"p50\": ").append(scratch.getPercentile(50))
+                .append(", \"p90\": ").append(scratch.getPercentile(90))
+                .append(", \"p99\": ").append(scratch.getPercentile(99))
+                .append(", \"p999\": ").append(scratch.getPercentile(99.9))
+                .append(", \"max\": ").append(scratch.getMax()).append('}');
+            separator = ",\n";
+        }
+        json.append("\n  }\n}\n");
+        return json.toString();
+    }
+}
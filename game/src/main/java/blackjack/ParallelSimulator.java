@@ -0,0 +1,132 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**ParallelSimulator Class
+  * Spreads simulated rounds across a fork/join pool.
+  * Every worker gets its own generator, split from a seeded root in a fixed order,
+  * and its own deck and result; results are merged as the tasks join, so no locks are shared.
+  * The same seed and thread count always give the same counts.
+  * @since  18/10/2026*/
+
+public class ParallelSimulator {
+    private final PlayerStrategy strategy;  // Shared by all workers, so it must be stateless
+    private final int threads;              // Number of partitions and pool threads
+    private final TableRules rules;         // Rules of every worker's table, including its shoe
+
+    /**
+     * Simulates single-deck shoes at the default penetration.
+     *
+     * @param strategy the strategy used for the player's decisions
+     * @param threads  number of worker threads, each playing its own share of the rounds
+     */
+    public ParallelSimulator(PlayerStrategy strategy, int threads) {
+        this(strategy, threads, 1, Shoe.DEFAULT_PENETRATION);
+    }
+
+    /**
+     * @param strategy    the strategy used for the player's decisions
+     * @param threads     number of worker threads, each playing its own share of the rounds with its own shoe
+     * @param decks       number of decks in each shoe, from 1 to 8
+     * @param penetration share of each shoe dealt before reshuffling
+     */
+    public ParallelSimulator(PlayerStrategy strategy, int threads, int decks, double penetration) {
+        this(strategy, threads, TableRules.DEFAULT.withDecks(decks).withPenetration(penetration));
+    }
+
+    /**
+     * @param strategy the strategy used for the player's decisions
+     * @param threads  number of worker threads, each playing its own share of the rounds with its own shoe
+     * @param rules    the rules of every worker's table
+     */
+    public ParallelSimulator(PlayerStrategy strategy, int threads, TableRules rules) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        this.strategy = strategy;
+        this.threads = threads;
+        this.rules = rules;
+    }
+
+    /**
+     * Plays the given number of rounds across the worker threads.
+     *
+     * @param rounds total number of rounds to play
+     * @param seed   seed of the root generator that every worker's generator is split from
+     * @return the merged counts, timed over the whole run
+     */
+    public SimulationResult run(long rounds, long seed) {
+        // Split the generators up front, in partition order, so scheduling cannot change them
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[threads];
+        long[] shares = new long[threads];
+        for (int i = 0; i < threads; i++) {
+            randoms[i] = root.split();
+            shares[i] = rounds / threads + (i < rounds % threads ? 1 : 0);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            SimulationResult result = pool.invoke(new PartitionTask(randoms, shares, 0, threads));
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a range of partitions, splitting it in half until one partition is left.
+     */
+    private class PartitionTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final SplittableRandom[] randoms;
+        private final long[] shares;
+        private final int from;  // First partition, inclusive
+        private final int to;    // Last partition, exclusive
+
+        PartitionTask(SplittableRandom[] randoms, long[] shares, int from, int to) {
+            this.randoms = randoms;
+            this.shares = shares;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected SimulationResult compute() {
+            if (to - from == 1) {
+                return new BlackjackSimulator(strategy, rules).run(shares[from], randoms[from]);
+            }
+            int middle = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(randoms, shares, from, middle);
+            PartitionTask right = new PartitionTask(randoms, shares, middle, to);
+            left.fork();
+            SimulationResult result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * Runs a parallel simulation from the command line.
+     *
+     * @param args optional number of rounds, thread count, seed and number of decks; the other
+     *             rules are read from system properties as in TableRules.fromSystemProperties()
+     */
+    public static void main(String[] args) {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        TableRules rules = TableRules.fromSystemProperties().withSeats(1);  // One hand is played per round
+        if (args.length > 3) {
+            rules = rules.withDecks(Integer.parseInt(args[3]));
+        }
+        rules.validate();
+        System.out.println("Threads: " + threads + ", Seed: " + seed + ", Rules: " + rules);
+        ParallelSimulator simulator = new ParallelSimulator(PlayerStrategy.MIMIC_DEALER, threads, rules);
+        System.out.println(simulator.run(rounds, seed));
+    }
+}
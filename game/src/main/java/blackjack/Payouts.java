@@ -0,0 +1,89 @@
+package blackjack;
+
+/**Payouts Class
+  * How a table pays, and the settlement of wagers in integer minor units. A natural
+  * blackjack pays at the table's ratio (3:2 or the short-paying 6:5), rounded down to a
+  * whole minor unit as casinos do; other wins pay 1:1 and insurance pays 2:1. Surrender is
+  * late surrender: it returns half the stake, rounded down, unless the dealer turns out to
+  * hold a blackjack, which takes the whole stake as it would have anyway.
+  *
+  * Settlement follows the model's hand evaluation: a player blackjack is settled first,
+  * pushing against a dealer blackjack and otherwise paying the blackjack ratio whatever the
+  * dealer draws. The dealer does not peek, so a dealer blackjack beats every other hand,
+  * doubled and split hands included.
+  * @since  18/10/2026*/
+
+public final class Payouts {
+    public static final Payouts THREE_TO_TWO = new Payouts(3, 2);
+    public static final Payouts SIX_TO_FIVE = new Payouts(6, 5);
+
+    private final int blackjackWin;   // A blackjack wins blackjackWin / blackjackBet of the stake
+    private final int blackjackBet;
+
+    /**
+     * @param blackjackWin amount won by a blackjack for every blackjackBet staked
+     * @param blackjackBet stake the blackjack ratio is expressed against
+     */
+    public Payouts(int blackjackWin, int blackjackBet) {
+        if (blackjackWin < 1 || blackjackBet < 1) {
+            throw new IllegalArgumentException("blackjack payout must be positive: " + blackjackWin + ":" + blackjackBet);
+        }
+        this.blackjackWin = blackjackWin;
+        this.blackjackBet = blackjackBet;
+    }
+
+    /**
+     * Settles a hand and its insurance.
+     *
+     * @param wager           the money on the hand
+     * @param outcome         the hand's outcome from the model's evaluation
+     * @param dealerBlackjack whether the dealer holds a blackjack, which decides the insurance
+     *                        and whether a surrender gets half the stake back
+     * @return the player's net result in minor units: positive when won, negative when lost
+     */
+    public long settle(Wager wager, RoundOutcome outcome, boolean dealerBlackjack) {
+        long insurance = wager.getInsurance();
+        long net = dealerBlackjack ? 2 * insurance : -insurance;
+        long bet = wager.getBet();
+        if (wager.isSurrendered()) {
+            // Late surrender is only offered once the dealer has no blackjack
+            return net - (dealerBlackjack ? bet : bet - bet / 2);
+        }
+        switch (outcome) {
+            case PLAYER_BLACKJACK:
+                // Two cards making 21 after a split count as an ordinary 21
+                return net + (wager.isSplit() ? bet : bet * blackjackWin / blackjackBet);
+            case DEALER_BUST:
+            case PLAYER_WIN:
+                return net + bet;
+            case PUSH:
+                return net;
+            default:
+                return net - bet;
+        }
+    }
+
+    /**
+     * Settles the player's hand of a finished round in the model.
+     *
+     * @param wager the money on the player's hand
+     * @param model a round in which both sides have finished drawing
+     * @return the player's net result in minor units
+     */
+    public long settle(Wager wager, BlackjackModel model) {
+        return settle(wager, model.determineOutcome(), model.isDealerBlackjack());
+    }
+
+    // The blackjack ratio: blackjackWin won for every blackjackBet staked
+    public int getBlackjackWin() {
+        return blackjackWin;
+    }
+
+    public int getBlackjackBet() {
+        return blackjackBet;
+    }
+
+    public String toString() {
+        return blackjackWin + ":" + blackjackBet;
+    }
+}
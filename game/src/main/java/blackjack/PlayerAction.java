@@ -0,0 +1,19 @@
+package blackjack;
+
+/**PlayerAction Enum
+  * The decisions a player can make on a hand
+  * @since  18/10/2026*/
+
+public enum PlayerAction {
+    STAND,   // Take no more cards
+    HIT,     // Take another card
+    DOUBLE,  // Double the bet and take exactly one more card
+    SPLIT;   // Split a pair into two hands
+
+    private static final PlayerAction[] VALUES = values();
+
+    // Looks up an action by ordinal without copying the values array
+    static PlayerAction of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
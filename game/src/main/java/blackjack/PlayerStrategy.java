@@ -0,0 +1,47 @@
+package blackjack;
+
+/**PlayerStrategy Interface
+  * Decides the player's moves when rounds are played without a human at the table, and
+  * the moves of the bots seated at a table
+  * @since  18/10/2026*/
+
+public interface PlayerStrategy {
+
+    /**
+     * Hits until the hand is worth at least 17, mirroring the dealer's rule.
+     */
+    PlayerStrategy MIMIC_DEALER = new PlayerStrategy() {
+        public boolean shouldHit(BlackjackModel model) {
+            return model.getPlayerSum() < 17;
+        }
+    };
+
+    /**
+     * Never takes a card beyond the initial two.
+     */
+    PlayerStrategy ALWAYS_STAND = new PlayerStrategy() {
+        public boolean shouldHit(BlackjackModel model) {
+            return false;
+        }
+    };
+
+    /**
+     * Decides whether the player takes another card.
+     * Implementations must not keep per-round state, so one instance can be shared by many rounds.
+     *
+     * @param model the round in progress
+     * @return true to hit, false to stay
+     */
+    boolean shouldHit(BlackjackModel model);
+
+    /**
+     * Decides what a bot seat does with the hand being played: HIT, STAND or, if the hand
+     * can be split, SPLIT. Hits or stands as shouldHit() says unless overridden.
+     *
+     * @param model the round in progress
+     * @return the action to take
+     */
+    default PlayerAction decide(BlackjackModel model) {
+        return shouldHit(model) ? PlayerAction.HIT : PlayerAction.STAND;
+    }
+}
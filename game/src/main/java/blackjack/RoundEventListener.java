@@ -0,0 +1,17 @@
+package blackjack;
+
+/**RoundEventListener Interface
+  * Receives the events of a table's rounds as they happen, see RoundEventType
+  * @since  18/10/2026*/
+
+public interface RoundEventListener {
+
+    /**
+     * Called for every event, on the thread playing the table.
+     *
+     * @param type  what happened
+     * @param value the event's value, such as a card code or a shuffle seed
+     * @param extra the event's extra value, such as a shoe position or an outcome
+     */
+    void onEvent(RoundEventType type, long value, int extra);
+}
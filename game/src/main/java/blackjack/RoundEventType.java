@@ -0,0 +1,32 @@
+package blackjack;
+
+/**RoundEventType Enum
+  * The events a round is made of, in the order a table reports them.
+  * Each event carries a long value and an int extra, as described per constant.
+  * Constants are only ever appended, since logs store the ordinals.
+  * @since  18/10/2026*/
+
+public enum RoundEventType {
+    SHUFFLE,      // The shoe was reshuffled; value is the new shuffle seed, extra the cards of the round on the
+                  // table left out of it when the shoe ran out mid-round (0 for a full shuffle), which are
+                  // also the new shoe position
+    ROUND_START,  // A round begins; value is the shuffle seed, extra the shoe position of its first card
+    PLAYER_CARD,  // One of the first two cards of a player hand, split hands included; value is the card code,
+                  // extra the seat it was dealt to in the initial deal and 0 after a split
+    DEALER_CARD,  // One of the dealer's first two cards; value is the card code
+    HIT,          // The player took a card on the hand being played; value is the card code
+    STAND,        // The player finished every hand and the dealer starts drawing
+    DEALER_DRAW,  // The dealer took a card; value is the card code
+    SETTLE,       // A hand is settled; value is the hand's index, extra the ordinal of its RoundOutcome.
+                  // Hands settle last to first, so the SETTLE of hand 0 ends the round
+    SNAPSHOT,     // Written by the log between rounds; value is the shuffle seed, extra the shoe position
+    SPLIT,        // The hand being played was split; extra is the index of the new hand, after the seat's others
+    NEXT_HAND;    // The player moved on to the next hand; extra is its index
+
+    private static final RoundEventType[] VALUES = values();
+
+    // Looks up a type by ordinal without copying the values array
+    static RoundEventType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
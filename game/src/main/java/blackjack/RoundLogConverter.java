@@ -0,0 +1,86 @@
+package blackjack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**RoundLogConverter Class
+  * Converts the text results file ("Player Score: 19, Dealer Score: 17, Result: Player Wins")
+  * into a binary round log. The text format has no cards, seeds or timestamps, so those
+  * fields are left at zero; lines that cannot be parsed are skipped.
+  * @since  18/10/2026*/
+
+public class RoundLogConverter {
+    private static final String PLAYER_SCORE = "Player Score: ";
+    private static final String DEALER_SCORE = ", Dealer Score: ";
+    private static final String RESULT = ", Result: ";
+
+    /**
+     * Appends every round of a text results file to a binary round log.
+     *
+     * @param text   the text results file to read
+     * @param binary the round log to append to
+     * @return the number of rounds converted
+     * @throws IOException if either file cannot be read or written
+     */
+    public static long convert(Path text, Path binary) throws IOException {
+        long converted = 0;
+        try (BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.US_ASCII);
+             RoundLogWriter writer = new RoundLogWriter(binary)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int dealerAt = line.indexOf(DEALER_SCORE);
+                int resultAt = line.indexOf(RESULT);
+                if (!line.startsWith(PLAYER_SCORE) || dealerAt < 0 || resultAt < dealerAt) {
+                    continue;
+                }
+                try {
+                    int playerScore = Integer.parseInt(line, PLAYER_SCORE.length(), dealerAt, 10);
+                    int dealerScore = Integer.parseInt(line, dealerAt + DEALER_SCORE.length(), resultAt, 10);
+                    RoundOutcome outcome = toOutcome(line.substring(resultAt + RESULT.length()));
+                    if (outcome != null) {
+                        writer.writeTotals(0, playerScore, dealerScore, outcome);
+                        converted++;
+                    }
+                } catch (NumberFormatException e) {
+                    // Not a result line; skip it
+                }
+            }
+        }
+        return converted;
+    }
+
+    // Maps the result text of a line onto an outcome. The text log recorded ties as
+    // "Dealer Wins", so they stay dealer wins here.
+    private static RoundOutcome toOutcome(String result) {
+        switch (result) {
+            case "Player Busted":
+                return RoundOutcome.PLAYER_BUST;
+            case "Dealer Busted":
+                return RoundOutcome.DEALER_BUST;
+            case "Player Wins":
+                return RoundOutcome.PLAYER_WIN;
+            case "Dealer Wins":
+                return RoundOutcome.DEALER_WIN;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts a results file from the command line.
+     *
+     * @param args the text results file and the round log to write
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RoundLogConverter <game_results.txt> <rounds.bjrl>");
+            return;
+        }
+        long converted = convert(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Converted " + converted + " rounds");
+    }
+}
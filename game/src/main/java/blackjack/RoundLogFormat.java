@@ -0,0 +1,66 @@
+package blackjack;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**RoundLogFormat Class
+  * Layout of the binary round log: a 16-byte file header followed by fixed-width,
+  * little-endian records of 72 bytes, one per round.
+  *
+  * <pre>
+  * offset  size  field
+  *      0     8  timestamp, milliseconds since the epoch (0 if unknown)
+  *      8     8  shuffle seed of the shoe the round was dealt from (see Shoe.shuffle(long))
+  *     16     2  shoe position of the round's first card
+  *     18     1  number of player cards
+  *     19     1  number of dealer cards
+  *     20     1  player's final total
+  *     21     1  dealer's final total
+  *     22     1  outcome, as the ordinal of RoundOutcome
+  *     23     1  reserved
+  *     24    24  player card codes
+  *     48    24  dealer card codes
+  * </pre>
+  * @since  18/10/2026*/
+
+final class RoundLogFormat {
+    static final int MAGIC = 0x4C524A42;  // "BJRL" read as a little-endian int
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 72;
+    static final int MAX_CARDS = 24;      // Card slots per hand
+
+    static final int TIMESTAMP = 0;
+    static final int SEED = 8;
+    static final int SHOE_POSITION = 16;
+    static final int PLAYER_COUNT = 18;
+    static final int DEALER_COUNT = 19;
+    static final int PLAYER_TOTAL = 20;
+    static final int DEALER_TOTAL = 21;
+    static final int OUTCOME = 22;
+    static final int PLAYER_CARDS = 24;
+    static final int DEALER_CARDS = 48;
+
+    private RoundLogFormat() {
+    }
+
+    // Builds the file header
+    static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE);
+        header.position(HEADER_SIZE);
+        header.flip();
+        return header;
+    }
+
+    // Checks a file header read from disk, throwing if it is not a round log this code can read
+    static void checkHeader(ByteBuffer header) {
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("not a round log");
+        }
+        if (header.getShort(4) != VERSION || header.getShort(6) != RECORD_SIZE) {
+            throw new IllegalArgumentException("unsupported round log version " + header.getShort(4));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**RoundLogReader Class
+  * Reads a binary round log (see RoundLogFormat) through memory-mapped segments.
+  * The reader is a cursor: next() moves to the following record and the getters read
+  * its fields straight from the mapping, so iterating allocates nothing per record.
+  * @since  18/10/2026*/
+
+public class RoundLogReader implements AutoCloseable {
+    private static final RoundOutcome[] OUTCOMES = RoundOutcome.values();
+
+    // Records per mapping, keeping each mapping under the 2 GB limit of a ByteBuffer
+    private static final long RECORDS_PER_SEGMENT = (Integer.MAX_VALUE - RoundLogFormat.HEADER_SIZE) / RoundLogFormat.RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long recordCount;
+    private long index = -1;           // Current record, -1 before the first call to next()
+    private ByteBuffer current;        // Segment holding the current record
+    private int offset;                // Offset of the current record in its segment
+
+    /**
+     * Maps the whole log for reading.
+     *
+     * @param file the round log to read
+     * @throws IOException if the file cannot be read or is not a round log
+     */
+    public RoundLogReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(RoundLogFormat.HEADER_SIZE);
+        channel.read(header, 0);
+        RoundLogFormat.checkHeader(header);
+        recordCount = (channel.size() - RoundLogFormat.HEADER_SIZE) / RoundLogFormat.RECORD_SIZE;
+
+        int segmentCount = (int) ((recordCount + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+        segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long first = i * RECORDS_PER_SEGMENT;
+            long records = Math.min(RECORDS_PER_SEGMENT, recordCount - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                                      RoundLogFormat.HEADER_SIZE + first * RoundLogFormat.RECORD_SIZE,
+                                      records * RoundLogFormat.RECORD_SIZE);
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false once every record has been read
+     */
+    public boolean next() {
+        if (index + 1 >= recordCount) {
+            return false;
+        }
+        seek(index + 1);
+        return true;
+    }
+
+    /**
+     * Moves to the record at the given index.
+     *
+     * @param record index of the record, from 0
+     */
+    public void seek(long record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException("record " + record + " of " + recordCount);
+        }
+        index = record;
+        current = segments[(int) (record / RECORDS_PER_SEGMENT)];
+        offset = (int) (record % RECORDS_PER_SEGMENT) * RoundLogFormat.RECORD_SIZE;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public long getTimestamp() {
+        return current.getLong(offset + RoundLogFormat.TIMESTAMP);
+    }
+
+    public long getSeed() {
+        return current.getLong(offset + RoundLogFormat.SEED);
+    }
+
+    public int getShoePosition() {
+        return current.getShort(offset + RoundLogFormat.SHOE_POSITION) & 0xFFFF;
+    }
+
+    public int getPlayerCardCount() {
+        return current.get(offset + RoundLogFormat.PLAYER_COUNT);
+    }
+
+    public int getDealerCardCount() {
+        return current.get(offset + RoundLogFormat.DEALER_COUNT);
+    }
+
+    public byte getPlayerCard(int card) {
+        return current.get(offset + RoundLogFormat.PLAYER_CARDS + card);
+    }
+
+    public byte getDealerCard(int card) {
+        return current.get(offset + RoundLogFormat.DEALER_CARDS + card);
+    }
+
+    public int getPlayerTotal() {
+        return current.get(offset + RoundLogFormat.PLAYER_TOTAL);
+    }
+
+    public int getDealerTotal() {
+        return current.get(offset + RoundLogFormat.DEALER_TOTAL);
+    }
+
+    public RoundOutcome getOutcome() {
+        return OUTCOMES[current.get(offset + RoundLogFormat.OUTCOME)];
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Prints a summary of a round log from the command line.
+     *
+     * @param args path of the round log
+     */
+    public static void main(String[] args) throws IOException {
+        try (RoundLogReader reader = new RoundLogReader(Paths.get(args[0]))) {
+            SimulationResult result = new SimulationResult();
+            long start = System.nanoTime();
+            while (reader.next()) {
+                result.record(reader.getOutcome());
+            }
+            result.setElapsedNanos(System.nanoTime() - start);
+            System.out.println(result);
+        }
+    }
+}
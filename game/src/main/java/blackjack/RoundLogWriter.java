@@ -0,0 +1,128 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**RoundLogWriter Class
+  * Appends rounds to a binary round log (see RoundLogFormat) in batches.
+  * A writer is not thread safe; give each simulator thread its own file.
+  * @since  18/10/2026*/
+
+public class RoundLogWriter implements AutoCloseable {
+    private static final int BATCH_RECORDS = 1024;  // Records buffered before each write
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Opens the log, writing the file header if the file is new or empty.
+     *
+     * @param file the file to append to
+     * @throws IOException if the file cannot be opened or is not a round log
+     */
+    public RoundLogWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            channel.write(RoundLogFormat.header());
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(RoundLogFormat.HEADER_SIZE);
+            channel.read(header, 0);
+            RoundLogFormat.checkHeader(header);
+            long records = (channel.size() - RoundLogFormat.HEADER_SIZE) / RoundLogFormat.RECORD_SIZE;
+            channel.position(RoundLogFormat.HEADER_SIZE + records * RoundLogFormat.RECORD_SIZE);  // Drops a torn last record
+        }
+        buffer = ByteBuffer.allocateDirect(BATCH_RECORDS * RoundLogFormat.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Appends a round with its cards.
+     *
+     * @param seed      shuffle seed of the shoe the round was dealt from
+     * @param start     shoe position of the round's first card
+     * @param player    the player's final hand
+     * @param dealer    the dealer's final hand
+     * @param outcome   how the round was settled
+     */
+    public void write(long seed, int start, Hand player, Hand dealer, RoundOutcome outcome) {
+        int base = putRecord(System.currentTimeMillis(), seed, start, player.size(), dealer.size(),
+                             player.getTotal(), dealer.getTotal(), outcome);
+        putCards(base + RoundLogFormat.PLAYER_CARDS, player);
+        putCards(base + RoundLogFormat.DEALER_CARDS, dealer);
+        buffer.position(base + RoundLogFormat.RECORD_SIZE);
+        writeIfFull();
+    }
+
+    /**
+     * Appends a round whose cards are unknown, such as one converted from the text log.
+     *
+     * @param timestamp   milliseconds since the epoch, or 0 if unknown
+     * @param playerTotal the player's final total
+     * @param dealerTotal the dealer's final total
+     * @param outcome     how the round was settled
+     */
+    public void writeTotals(long timestamp, int playerTotal, int dealerTotal, RoundOutcome outcome) {
+        int base = putRecord(timestamp, 0, 0, 0, 0, playerTotal, dealerTotal, outcome);
+        buffer.position(base + RoundLogFormat.RECORD_SIZE);
+        writeIfFull();
+    }
+
+    /**
+     * Writes out every buffered record.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // Fills the fixed fields of the next record, zeroing the card slots, and returns its offset
+    private int putRecord(long timestamp, long seed, int start, int playerCount, int dealerCount,
+                          int playerTotal, int dealerTotal, RoundOutcome outcome) {
+        int base = buffer.position();
+        buffer.putLong(base + RoundLogFormat.TIMESTAMP, timestamp);
+        buffer.putLong(base + RoundLogFormat.SEED, seed);
+        buffer.putShort(base + RoundLogFormat.SHOE_POSITION, (short) start);
+        buffer.put(base + RoundLogFormat.PLAYER_COUNT, (byte) Math.min(playerCount, RoundLogFormat.MAX_CARDS));
+        buffer.put(base + RoundLogFormat.DEALER_COUNT, (byte) Math.min(dealerCount, RoundLogFormat.MAX_CARDS));
+        buffer.put(base + RoundLogFormat.PLAYER_TOTAL, (byte) playerTotal);
+        buffer.put(base + RoundLogFormat.DEALER_TOTAL, (byte) dealerTotal);
+        buffer.put(base + RoundLogFormat.OUTCOME, (byte) outcome.ordinal());
+        buffer.put(base + RoundLogFormat.OUTCOME + 1, (byte) 0);
+        for (int i = RoundLogFormat.PLAYER_CARDS; i < RoundLogFormat.RECORD_SIZE; i += 8) {
+            buffer.putLong(base + i, 0);
+        }
+        return base;
+    }
+
+    private void putCards(int offset, Hand hand) {
+        int count = Math.min(hand.size(), RoundLogFormat.MAX_CARDS);
+        for (int i = 0; i < count; i++) {
+            buffer.put(offset + i, hand.get(i));
+        }
+    }
+
+    private void writeIfFull() {
+        if (!buffer.hasRemaining()) {
+            try {
+                flush();
+            } catch (IOException e) {
+                System.err.println("Error writing to round log: " + e.getMessage());
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package blackjack;
+
+/**RoundOutcome Enum
+  * The possible results of a settled round of blackjack
+  * @since  18/10/2026*/
+
+public enum RoundOutcome {
+    PLAYER_BLACKJACK,  // Player holds 21 with two cards and the dealer does not
+    PLAYER_BUST,       // Player went over 21, dealer wins without drawing
+    DEALER_BLACKJACK,  // Dealer holds 21 with two cards
+    DEALER_BUST,       // Dealer went over 21, player wins
+    PLAYER_WIN,        // Player's total beats the dealer's
+    DEALER_WIN,        // Dealer's total beats the player's
+    PUSH;              // Totals are equal, or both sides hold a blackjack
+
+    /**
+     * @return true if this outcome pays the player
+     */
+    public boolean isPlayerWin() {
+        return this == PLAYER_BLACKJACK || this == DEALER_BUST || this == PLAYER_WIN;
+    }
+
+    /**
+     * @return true if this outcome loses the player's hand to the dealer
+     */
+    public boolean isDealerWin() {
+        return this == PLAYER_BUST || this == DEALER_BLACKJACK || this == DEALER_WIN;
+    }
+}
@@ -0,0 +1,265 @@
+package blackjack;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**Shoe Class
+  * A shoe of one to eight decks of encoded cards that is kept across rounds.
+  * Cards are dealt from a primitive array and the whole shoe is reshuffled in place
+  * once the cut card has been reached. Every shuffle is driven by a seed drawn from the
+  * shoe's generator, so any shoe can be rebuilt from its seed with shuffle(long).
+  *
+  * A table marks each round with startRound(). Should the shoe run out during a round,
+  * only the discards are reshuffled: the cards of the round on the table stay out, so no
+  * card can be dealt twice in a round. Such a shoe is rebuilt from its seed and the cards
+  * that were on the table (see restore(long, byte[], int)).
+  * @since  18/10/2026*/
+
+public class Shoe {
+    public static final int MIN_DECKS = 1;
+    public static final int MAX_DECKS = 8;
+    public static final double DEFAULT_PENETRATION = 0.75;  // Share of the shoe dealt before the cut card
+
+    private final byte[] cards;            // Encoded cards of every deck in the shoe
+    private final int decks;               // Number of decks in the shoe
+    private final int cutCard;             // Position of the cut card
+    private final double penetration;      // Share of the shoe dealt before the cut card
+    private final RandomGenerator random;  // Source of randomness for shuffling
+    private int position = 0;              // Index of the next card to be dealt
+    private long shuffleSeed;              // Seed of the last shuffle
+    private int roundStart = -1;           // Index of the first card of the round on the table, or -1 outside rounds
+    private int cardsKept = 0;             // Cards on the table left out of the last shuffle, 0 for a full one
+
+    /**
+     * Builds and shuffles a shoe whose seeds come from a SecureRandom, as live play needs.
+     * Only the seeds are secure, see ShuffleSource.SECURE_SEED.
+     *
+     * @param decks       number of decks, from 1 to 8
+     * @param penetration share of the shoe dealt before reshuffling, above 0 and at most 1
+     */
+    public Shoe(int decks, double penetration) {
+        this(decks, penetration, ShuffleSource.SECURE_SEED.newGenerator());
+    }
+
+    /**
+     * Builds and shuffles a shoe.
+     *
+     * @param decks       number of decks, from 1 to 8
+     * @param penetration share of the shoe dealt before reshuffling, above 0 and at most 1
+     * @param random      generator of the seed of every shuffle of this shoe, see ShuffleSource
+     */
+    public Shoe(int decks, double penetration, RandomGenerator random) {
+        if (decks < MIN_DECKS || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("decks must be between " + MIN_DECKS + " and " + MAX_DECKS + ": " + decks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("penetration must be above 0 and at most 1: " + penetration);
+        }
+        this.decks = decks;
+        this.penetration = penetration;
+        this.random = random;
+        cards = new byte[decks * CardCode.DECK_SIZE];
+        cutCard = cutCard(cards.length, penetration);
+        shuffle();
+    }
+
+    // Position of the cut card in a shoe of the given size
+    static int cutCard(int size, double penetration) {
+        return Math.max(1, (int) Math.round(size * penetration));
+    }
+
+    /**
+     * Shuffles every card back into the shoe, using a new seed from the shoe's generator.
+     */
+    public void shuffle() {
+        shuffle(random.nextLong());
+    }
+
+    /**
+     * Puts every card back in deck order and shuffles them with a Fisher-Yates pass
+     * driven by a SplitMix64 sequence from the given seed, so the same seed always
+     * gives the same shoe.
+     *
+     * @param seed the seed of the shuffle
+     */
+    public void shuffle(long seed) {
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % CardCode.DECK_SIZE);
+        }
+        shuffleFrom(0, seed);
+        shuffleSeed = seed;
+        position = 0;
+        roundStart = -1;
+        cardsKept = 0;
+    }
+
+    /**
+     * Reshuffles the discards, leaving out the cards of the round on the table: those move
+     * to the front of the shoe, already dealt, and the discards go back behind them in deck
+     * order and are shuffled as shuffle(long) does, so the same seed and cards on the table
+     * always give the same shoe. Dealing goes on with the first reshuffled card.
+     *
+     * @param seed the seed of the shuffle
+     * @throws IllegalStateException if no round was started or every card is on the table
+     */
+    public void shuffleDiscards(long seed) {
+        if (roundStart <= 0) {
+            throw new IllegalStateException(roundStart < 0 ? "no round is on the table" : "every card of the shoe is on the table");
+        }
+        keep(Arrays.copyOfRange(cards, roundStart, position), seed);
+    }
+
+    // Puts the given cards at the front of the shoe as dealt and the rest of the shoe behind
+    // them, in deck order, then shuffles the rest with the seed
+    private void keep(byte[] table, long seed) {
+        int[] left = new int[CardCode.DECK_SIZE];
+        Arrays.fill(left, decks);
+        for (int i = 0; i < table.length; i++) {
+            if (--left[table[i]] < 0) {
+                throw new IllegalArgumentException("more cards on the table than in the shoe: " + CardCode.toString(table[i]));
+            }
+            cards[i] = table[i];
+        }
+        int next = table.length;
+        for (int code = 0; code < left.length; code++) {
+            for (int k = 0; k < left[code]; k++) {
+                cards[next++] = (byte) code;
+            }
+        }
+        shuffleFrom(table.length, seed);
+        shuffleSeed = seed;
+        position = table.length;
+        roundStart = 0;
+        cardsKept = table.length;
+    }
+
+    // Fisher-Yates pass over the cards from the given index on, driven by a SplitMix64
+    // sequence from the seed
+    private void shuffleFrom(int from, long seed) {
+        long state = seed;
+        for (int i = cards.length - 1; i > from; i--) {
+            long z = (state += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z ^= z >>> 31;
+            // Multiply-shift maps the high 32 bits onto from..i; the bias is below 1e-6 for a shoe
+            int j = from + (int) (((z >>> 32) * (i - from + 1)) >>> 32);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+
+    /**
+     * Rebuilds the shoe as it stood after the given shuffle with cards dealt up to a position.
+     *
+     * @param seed     the seed of the shuffle
+     * @param position index of the next card to be dealt
+     */
+    public void restore(long seed, int position) {
+        if (position < 0 || position > cards.length) {
+            throw new IllegalArgumentException("position outside the shoe: " + position);
+        }
+        shuffle(seed);
+        this.position = position;
+    }
+
+    /**
+     * Rebuilds the shoe as it stood after a reshuffle of the discards with cards dealt up to
+     * a position, the round that was on the table still in progress.
+     *
+     * @param seed     the seed of the shuffle
+     * @param table    the cards that were on the table, left out of the shuffle
+     * @param position index of the next card to be dealt, at least the number of those cards
+     */
+    public void restore(long seed, byte[] table, int position) {
+        if (position < table.length || position > cards.length) {
+            throw new IllegalArgumentException("position outside the reshuffled cards: " + position);
+        }
+        keep(table, seed);
+        this.position = position;
+    }
+
+    // Used by the replayer: marks where the round on the table starts after a restore
+    void restoreRoundStart(int start) {
+        roundStart = start;
+    }
+
+    /**
+     * Notes that the cards dealt so far have left the table and that a round starts with the
+     * next card.
+     */
+    public void startRound() {
+        roundStart = position;
+    }
+
+    /**
+     * Deals the next card. Should the shoe run out mid-round, the discards are reshuffled
+     * rather than failing (see shuffleDiscards(long)), although rounds normally start a fresh
+     * shoe at the cut card, and TableRules keeps enough cards behind it. A shoe not dealing
+     * rounds is reshuffled whole.
+     *
+     * @return the encoded card
+     * @throws IllegalStateException if a single round has used every card of the shoe
+     */
+    public byte draw() {
+        if (position == cards.length) {
+            if (roundStart < 0) {
+                shuffle();
+            } else {
+                shuffleDiscards(random.nextLong());
+            }
+        }
+        return cards[position++];
+    }
+
+    /**
+     * Adds the cards not yet dealt to per-value counts, index 0 for Aces up to 9 for tens.
+     *
+     * @param counts the counts to add to
+     */
+    public void countRemaining(int[] counts) {
+        for (int i = position; i < cards.length; i++) {
+            counts[CardCode.hardValue(cards[i]) - 1]++;
+        }
+    }
+
+    // True once the cut card has come out, meaning the shoe should be shuffled before the next round
+    public boolean isCutCardReached() {
+        return position >= cutCard;
+    }
+
+    // Seed of the last shuffle; with getPosition() it identifies where a round was dealt from
+    public long getShuffleSeed() {
+        return shuffleSeed;
+    }
+
+    // Cards of the round on the table left out of the last shuffle, 0 after a full shuffle
+    public int getCardsKept() {
+        return cardsKept;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getDecks() {
+        return decks;
+    }
+
+    public double getPenetration() {
+        return penetration;
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    public int remaining() {
+        return cards.length - position;
+    }
+
+    public int getCutCard() {
+        return cutCard;
+    }
+}
@@ -0,0 +1,155 @@
+package blackjack;
+
+/**ShuffleRegression Class
+  * Regression harness for seeded play: replays fixed seeds and checks that they still give
+  * exactly the recorded shoes, rounds and bankrolls, then measures shuffle throughput for
+  * each ShuffleSource. A shoe is checked by a digest of its card order; a run of rounds by
+  * a digest of every event the table reports, so a changed card, decision or outcome
+  * anywhere in the run changes it.
+  *
+  * Run with --record to print the digests of the current code in place of checking them,
+  * after a change that is meant to alter the shuffle or the play.
+  * @since  18/10/2026*/
+
+public class ShuffleRegression {
+    private static final long[] SEEDS = {1, 42, 0xDEADBEEFL};
+    private static final int[] DECKS = {1, 6, 8};
+    private static final int ROUNDS = 10_000;   // Rounds per table run
+    private static final long HANDS = 100_000;  // Rounds per betting run
+
+    // Recorded digests, one per seed, and per deck count for the shoes
+    private static final long[][] SHOE_DIGESTS = {
+        {0xDB4C319F6A82E485L, 0xA47D82778C761B25L, 0x4C0639C8A8D34485L},
+        {0xE1EF93C19FB94445L, 0xB3B4BC097A736B45L, 0x05F4F931DCA9BC05L},
+        {0xEDA00E50B14006E5L, 0x01CA7866AA4B0765L, 0x7DBBE10950BED4C5L}
+    };
+    private static final long[] TABLE_DIGESTS = {0x2ADFA06F23DC00B6L, 0x4CBB7A3701DD2434L, 0x30BDC495240B6D8FL};
+    private static final long[] BETTING_NETS = {-274500, -484500, -364500};  // Net result in minor units
+
+    private static final long THROUGHPUT_NANOS = 500_000_000;  // Time spent timing each source
+
+    /**
+     * Checks every recorded seed and prints the shuffle throughput of each source,
+     * exiting with status 1 if any seed no longer reproduces its record.
+     *
+     * @param args --record to print the current digests instead of checking them
+     */
+    public static void main(String[] args) {
+        boolean record = args.length > 0 && args[0].equals("--record");
+        int failures = 0;
+
+        TableRules rules = TableRules.DEFAULT.withDecks(6);
+        BasicStrategy strategy = BasicStrategy.generate(rules);
+        for (int s = 0; s < SEEDS.length; s++) {
+            long seed = SEEDS[s];
+            for (int d = 0; d < DECKS.length; d++) {
+                failures += check(record, "shoe " + DECKS[d] + " decks, seed " + seed, shoeDigest(DECKS[d], seed),
+                                  SHOE_DIGESTS[s][d], true);
+            }
+            failures += check(record, "table, seed " + seed, tableDigest(rules, strategy, seed), TABLE_DIGESTS[s], true);
+            Bankroll bankroll = new BettingSimulator(strategy, rules, false)
+                .run(HANDS, BettingSimulator.DEFAULT_BET, ShuffleSource.FAST.newGenerator(seed));
+            failures += check(record, "betting, seed " + seed, bankroll.getNet(), BETTING_NETS[s], false);
+        }
+
+        System.out.println("Shuffles of a 6-deck shoe per second:");
+        for (ShuffleSource source : ShuffleSource.values()) {
+            System.out.printf("  %-11s %,12.0f%n", source, shufflesPerSecond(new Shoe(6, Shoe.DEFAULT_PENETRATION, source.newGenerator())));
+        }
+
+        if (!record) {
+            System.out.println(failures == 0 ? "All seeds reproduce their records" : failures + " seeds no longer reproduce their records");
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    // Prints the value when recording, otherwise compares it with the record; returns 1 on a mismatch
+    private static int check(boolean record, String name, long value, long expected, boolean digest) {
+        String format = digest ? "0x%016XL" : "%d";
+        if (record) {
+            System.out.printf("%-32s " + format + "%n", name, value);
+            return 0;
+        }
+        if (value != expected) {
+            System.err.printf("Error: %s gave " + format + ", recorded " + format + "%n", name, value, expected);
+            return 1;
+        }
+        return 0;
+    }
+
+    // Digest of the card order of a shoe shuffled with the given seed
+    static long shoeDigest(int decks, long seed) {
+        Shoe shoe = new Shoe(decks, 1.0, ShuffleSource.FAST.newGenerator(seed));
+        shoe.shuffle(seed);
+        Digest digest = new Digest();
+        while (shoe.remaining() > 0) {
+            digest.add(shoe.draw());
+        }
+        return digest.value;
+    }
+
+    // Digest of every event of a run of rounds on a table, the player following basic strategy
+    // with splits, hitting and standing (the table has no doubling)
+    static long tableDigest(TableRules rules, BasicStrategy strategy, long seed) {
+        Digest digest = new Digest();
+        BlackjackTable table = new BlackjackTable(rules.newShoe(ShuffleSource.FAST.newGenerator(seed)), rules, digest);
+        for (int round = 0; round < ROUNDS; round++) {
+            table.deal();
+            BlackjackModel model = table.getModel();
+            int upcard = CardCode.hardValue(model.getDealerCards().get(0));
+            while (!table.isRoundOver()) {
+                Hand hand = model.getPlayerCards();
+                boolean canSplit = table.canSplit();
+                int pairValue = canSplit ? CardCode.hardValue(hand.get(0)) : 0;
+                PlayerAction action = hand.getTotal() >= 21 ? PlayerAction.STAND
+                    : strategy.decide(hand.getTotal(), hand.isSoft(), pairValue, upcard, false, canSplit);
+                if (action == PlayerAction.SPLIT) {
+                    table.split();
+                } else if (action == PlayerAction.HIT) {
+                    table.hit();
+                } else {
+                    table.stand();
+                }
+            }
+        }
+        return digest.value;
+    }
+
+    // Shuffles the shoe over and over for a while and returns the rate
+    private static double shufflesPerSecond(Shoe shoe) {
+        for (int i = 0; i < 10_000; i++) {
+            shoe.shuffle();  // Warm-up
+        }
+        long shuffles = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 1000; i++) {
+                shoe.shuffle();
+            }
+            shuffles += 1000;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < THROUGHPUT_NANOS);
+        return shuffles / (elapsed / 1e9);
+    }
+
+    /**
+     * FNV-1a digest of cards and round events.
+     */
+    private static class Digest implements RoundEventListener {
+        long value = 0xCBF29CE484222325L;
+
+        void add(long word) {
+            for (int i = 0; i < 8; i++) {
+                value = (value ^ (word & 0xFF)) * 0x100000001B3L;
+                word >>>= 8;
+            }
+        }
+
+        public void onEvent(RoundEventType type, long eventValue, int extra) {
+            add(type.ordinal());
+            add(eventValue);
+            add(extra);
+        }
+    }
+}
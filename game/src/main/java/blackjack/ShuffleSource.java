@@ -0,0 +1,68 @@
+package blackjack;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**ShuffleSource Enum
+  * Where a shoe's shuffle seeds come from. A shoe draws one 64-bit seed per shuffle from
+  * its generator and expands it into the whole shuffle (see Shoe.shuffle(long)), so the
+  * seed alone reproduces the shoe whichever source drew it.
+  *
+  * SECURE_SEED draws seeds from a SecureRandom, so the seed of one shoe tells nothing of
+  * the next; it is the default for live tables. Only the seed is secure: the shuffle itself
+  * is SplitMix64 expanding those 64 bits, which is neither a cryptographic generator nor
+  * able to reach more than 2^64 of a shoe's orderings, so a shoe is only as hard to foresee
+  * as its seed is to search for. That keeps every shoe rebuildable from its seed for the
+  * event log and replay; it is not a certified shuffle for play with real money. FAST draws
+  * seeds from a SplittableRandom, which costs next to nothing and, when seeded, makes a
+  * whole run repeat exactly; simulations and tests use it.
+  * @since  18/10/2026*/
+
+public enum ShuffleSource {
+    SECURE_SEED,  // Unpredictable seeds for live play, expanded by the shoe's SplitMix64 shuffle
+    FAST;         // Cheap, optionally reproducible seeds for simulation
+
+    // One strong generator shared by every live shoe; SecureRandom is thread safe
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /**
+     * Returns a generator of shuffle seeds from this source.
+     */
+    public RandomGenerator newGenerator() {
+        return this == SECURE_SEED ? SECURE_RANDOM : new SplittableRandom();
+    }
+
+    /**
+     * Returns a generator that gives the same seeds every time it is created with the same
+     * seed. Only FAST generators can be seeded.
+     *
+     * @param seed the seed of the generator
+     * @throws UnsupportedOperationException for SECURE_SEED, which never repeats
+     */
+    public RandomGenerator newGenerator(long seed) {
+        if (this == SECURE_SEED) {
+            throw new UnsupportedOperationException("secure shuffles cannot be seeded");
+        }
+        return new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the generator named by system properties: a FAST generator seeded with
+     * -Dblackjack.seed when it is set, so a session can be played again card for card,
+     * otherwise one of -Dblackjack.shuffle=secure-seed (the default) or fast.
+     */
+    public static RandomGenerator generatorFromSystemProperties() {
+        String seed = System.getProperty("blackjack.seed");
+        if (seed != null) {
+            return FAST.newGenerator(Long.parseLong(seed.trim()));
+        }
+        String source = System.getProperty("blackjack.shuffle", "secure-seed").trim();
+        try {
+            return valueOf(source.toUpperCase(Locale.ROOT).replace('-', '_')).newGenerator();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("blackjack.shuffle must be secure-seed or fast: " + source);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package blackjack;
+
+/**SimulationResult Class
+  * Tallies the outcomes of simulated rounds
+  * @since  18/10/2026*/
+
+public class SimulationResult {
+    private long rounds;            // Number of rounds recorded
+    private long playerWins;        // Rounds won by the player, including blackjacks and dealer busts
+    private long dealerWins;        // Rounds won by the dealer, including player busts
+    private long pushes;            // Rounds that ended in a tie
+    private long playerBusts;       // Rounds where the player went over 21
+    private long dealerBusts;       // Rounds where the dealer went over 21
+    private long playerBlackjacks;  // Rounds won with a two-card 21
+    private long dealerBlackjacks;  // Rounds lost to the dealer's two-card 21
+    private long elapsedNanos;      // Wall-clock time spent playing the rounds
+
+    /**
+     * Records the outcome of one settled round.
+     *
+     * @param outcome the result of the round
+     */
+    public void record(RoundOutcome outcome) {
+        rounds++;
+        switch (outcome) {
+            case PLAYER_BLACKJACK:
+                playerBlackjacks++;
+                playerWins++;
+                break;
+            case PLAYER_BUST:
+                playerBusts++;
+                dealerWins++;
+                break;
+            case DEALER_BLACKJACK:
+                dealerBlackjacks++;
+                dealerWins++;
+                break;
+            case DEALER_BUST:
+                dealerBusts++;
+                playerWins++;
+                break;
+            case PLAYER_WIN:
+                playerWins++;
+                break;
+            case DEALER_WIN:
+                dealerWins++;
+                break;
+            default:
+                pushes++;
+                break;
+        }
+    }
+
+    /**
+     * Adds the counts of another result into this one.
+     * Elapsed time is not summed, since partial results may have been played side by side.
+     *
+     * @param other the result to fold into this one
+     */
+    public void merge(SimulationResult other) {
+        rounds += other.rounds;
+        playerWins += other.playerWins;
+        dealerWins += other.dealerWins;
+        pushes += other.pushes;
+        playerBusts += other.playerBusts;
+        dealerBusts += other.dealerBusts;
+        playerBlackjacks += other.playerBlackjacks;
+        dealerBlackjacks += other.dealerBlackjacks;
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getPlayerWins() {
+        return playerWins;
+    }
+
+    public long getDealerWins() {
+        return dealerWins;
+    }
+
+    public long getPushes() {
+        return pushes;
+    }
+
+    public long getPlayerBusts() {
+        return playerBusts;
+    }
+
+    public long getDealerBusts() {
+        return dealerBusts;
+    }
+
+    public long getPlayerBlackjacks() {
+        return playerBlackjacks;
+    }
+
+    public long getDealerBlackjacks() {
+        return dealerBlackjacks;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the number of rounds played per second of elapsed time
+     */
+    public double getHandsPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return rounds * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns a multi-line report of the counts and throughput.
+     */
+    public String toString() {
+        return "Rounds: " + rounds
+             + "\nPlayer Wins: " + playerWins + " (Blackjacks: " + playerBlackjacks + ", Dealer Busts: " + dealerBusts + ")"
+             + "\nDealer Wins: " + dealerWins + " (Blackjacks: " + dealerBlackjacks + ", Player Busts: " + playerBusts + ")"
+             + "\nPushes: " + pushes
+             + "\nHands per Second: " + String.format("%.0f", getHandsPerSecond());
+    }
+}
@@ -0,0 +1,148 @@
+package blackjack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**Startup Class
+  * Cold start of the game, as a kiosk does after every power cycle. begin() sets off in the
+  * background the work the first round would otherwise wait for, while the main screen is
+  * shown: decoding the card images, setting up the session's table and shoe, and loading the
+  * classes a training run listed (-Dblackjack.classlist, the file written by
+  * -XX:DumpLoadedClassList). -Dblackjack.preload=false leaves all of it to first use. Should
+  * setting up the table fail, the error is kept for the main screen to show when the game is
+  * opened, rather than being lost with the background thread.
+  *
+  * The time from the JVM starting to the first frame and to the first deal being shown is
+  * kept as startup.first.frame and startup.first.deal in the metrics. A timed start
+  * (-Dblackjack.startup.exit=true, used by StartupBenchmark) goes from the main screen
+  * straight to the first deal, prints both times and exits.
+  * @since  18/10/2026*/
+
+public final class Startup {
+    private static final boolean TIMED = Boolean.getBoolean("blackjack.startup.exit");
+
+    private static long firstFrameMillis = -1;  // Since the JVM started, or -1 before the first frame
+    private static boolean begun = false;
+    private static boolean dealt = false;
+    private static volatile Throwable failure;  // What stopped the table being set up, or null
+
+    private Startup() {
+    }
+
+    /**
+     * Starts loading in the background what the first round needs. Only the first call does anything.
+     */
+    public static synchronized void begin() {
+        if (begun || !Boolean.parseBoolean(System.getProperty("blackjack.preload", "true"))) {
+            return;
+        }
+        begun = true;
+        CardImages.preload();  // Decodes on its own threads
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    // Rules, shoe and table of the session, including seeding the shuffle
+                    Class.forName("blackjack.BlackJack", true, Startup.class.getClassLoader());
+                    String classList = System.getProperty("blackjack.classlist");
+                    if (classList != null) {
+                        loadClasses(classList);
+                    }
+                } catch (Throwable e) {
+                    // Bad -Dblackjack.* settings fail in BlackJack's initializer as an
+                    // ExceptionInInitializerError, which would otherwise end the thread unseen
+                    failure = e instanceof ExceptionInInitializerError && e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Error preparing the table: " + failure);
+                }
+            }
+        }, "startup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns what stopped the background setup of the table, or null if nothing has.
+     */
+    public static Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Whether this is a timed start, which deals a round as soon as the main screen is
+     * shown and exits once it has been dealt.
+     */
+    public static boolean isTimed() {
+        return TIMED;
+    }
+
+    /**
+     * Notes that the first frame has been painted. Must be called on the event dispatch thread.
+     *
+     * @return true the first time only
+     */
+    public static boolean firstFrame() {
+        if (firstFrameMillis >= 0) {
+            return false;
+        }
+        firstFrameMillis = sinceLaunch();
+        MetricsRegistry.getDefault().latency("startup.first.frame").record(TimeUnit.MILLISECONDS.toNanos(firstFrameMillis));
+        return true;
+    }
+
+    /**
+     * Notes that the first deal has been shown, printing the startup times and exiting if
+     * this is a timed start. Must be called on the event dispatch thread.
+     */
+    public static void firstDeal() {
+        if (dealt) {
+            return;
+        }
+        dealt = true;
+        long firstDealMillis = sinceLaunch();
+        MetricsRegistry.getDefault().latency("startup.first.deal").record(TimeUnit.MILLISECONDS.toNanos(firstDealMillis));
+        if (TIMED) {
+            System.out.println("Startup: first frame " + (firstFrameMillis < 0 ? "-" : String.valueOf(firstFrameMillis))
+                               + " ms, first deal " + firstDealMillis + " ms");
+            System.exit(0);
+        }
+    }
+
+    // Milliseconds since the process was launched: by StartupBenchmark, which passes the
+    // time it launched it, or as the operating system recorded it
+    private static long sinceLaunch() {
+        long now = System.currentTimeMillis();
+        String launched = System.getProperty("blackjack.startup.launched");
+        if (launched != null) {
+            return now - Long.parseLong(launched);
+        }
+        return now - ProcessHandle.current().info().startInstant().orElse(Instant.ofEpochMilli(now)).toEpochMilli();
+    }
+
+    // Loads, without initializing, every class named in a class list; lines are a class name
+    // in internal form, optionally followed by more fields, and classes not found are skipped
+    private static void loadClasses(String classList) {
+        ClassLoader loader = Startup.class.getClassLoader();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(classList), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#' || line.charAt(0) == '@') {
+                    continue;  // Comments, and archive directives such as @lambda-proxy
+                }
+                int end = line.indexOf(' ');
+                String name = (end < 0 ? line : line.substring(0, end)).replace('/', '.');
+                try {
+                    Class.forName(name, false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // Generated at run time, or gone since the list was made
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading class list " + classList + ": " + e.getMessage());
+        }
+    }
+}
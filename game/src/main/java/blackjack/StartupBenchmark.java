@@ -0,0 +1,176 @@
+package blackjack;
+
+import java.awt.GraphicsEnvironment;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**StartupBenchmark Class
+  * Measures cold starts of the game, each in a new JVM, from launch to the first frame and
+  * to the first deal shown. A training run first writes the list of classes a start loads
+  * and an AppCDS archive is dumped from it; starts are then timed with everything loaded on
+  * first use, with the background preloading of Startup, with the class list preloaded too,
+  * and from the archive.
+  *
+  * With a display each start runs the game itself, going from the main screen straight to
+  * the first deal. Headless, it runs the same loading and first deal without a frame, so only
+  * the time to the first deal is given.
+  * @since  18/10/2026*/
+
+public class StartupBenchmark {
+    private static final String CLASS_LIST = "blackjack.classlist";
+    private static final String ARCHIVE = "blackjack.jsa";
+
+    /**
+     * Trains, then times every way of starting and prints the median and best times of each.
+     *
+     * @param args optional number of starts timed per way (10 by default) and directory the
+     *             class list and archive are written to (a temporary one by default)
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--probe")) {
+            probe();
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Path directory;
+        if (args.length > 1) {
+            directory = Files.createDirectories(Paths.get(args[1]));
+        } else {
+            directory = Files.createTempDirectory("startup");
+            directory.toFile().deleteOnExit();
+        }
+        String classList = directory.resolve(CLASS_LIST).toString();
+        String archive = directory.resolve(ARCHIVE).toString();
+
+        // Training: one start lists the classes it loads, which the archive is dumped from
+        start("-XX:DumpLoadedClassList=" + classList);
+        boolean archived = jarsOnly();
+        if (archived) {
+            dump(classList, archive);
+        } else {
+            System.out.println("AppCDS archives classes from jars only; run from the game jar to time the archive");
+        }
+        if (args.length <= 1) {
+            new File(classList).deleteOnExit();
+            new File(archive).deleteOnExit();
+        }
+
+        System.out.println("Starts: " + runs + " per way" + (GraphicsEnvironment.isHeadless() ? " (headless, no frame)" : ""));
+        System.out.printf("%-28s %14s %14s %12s%n", "", "first frame ms", "first deal ms", "best deal ms");
+        time(runs, "loaded on first use", "-Dblackjack.preload=false");
+        time(runs, "preloaded", "-Dblackjack.preload=true");
+        time(runs, "preloaded with class list", "-Dblackjack.classlist=" + classList);
+        if (archived) {
+            time(runs, "AppCDS archive", "-XX:SharedArchiveFile=" + archive, "-Dblackjack.classlist=" + classList);
+        }
+    }
+
+    // Whether the class path is all jars, which AppCDS needs
+    private static boolean jarsOnly() {
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (new File(entry).isDirectory()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Times a number of starts with the given JVM options and prints the medians
+    private static void time(int runs, String name, String... options) throws IOException, InterruptedException {
+        long[] frames = new long[runs];
+        long[] deals = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long[] times = start(options);
+            frames[i] = times[0];
+            deals[i] = times[1];
+        }
+        Arrays.sort(frames);
+        Arrays.sort(deals);
+        String frame = frames[runs / 2] < 0 ? "-" : String.valueOf(frames[runs / 2]);
+        System.out.printf("%-28s %14s %14d %12d%n", name, frame, deals[runs / 2], deals[0]);
+    }
+
+    // Starts the game in a new JVM with the given options and returns its first frame and
+    // first deal times in milliseconds, the frame -1 when headless
+    private static long[] start(String... options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(options));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-Dblackjack.startup.exit=true");
+        boolean headless = GraphicsEnvironment.isHeadless();
+        if (headless) {
+            command.add("-Djava.awt.headless=true");
+        }
+        command.add("-Dblackjack.startup.launched=" + System.currentTimeMillis());
+        if (headless) {
+            command.add(StartupBenchmark.class.getName());
+            command.add("--probe");
+        } else {
+            command.add(BlackJack.class.getName());
+        }
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("Startup: ")) {
+                    result = line;
+                } else {
+                    System.err.println(line);
+                }
+            }
+        }
+        int status = process.waitFor();
+        if (status != 0 || result == null) {
+            throw new IllegalStateException("Error: a start exited with status " + status + " without its times");
+        }
+        // Startup: first frame <ms or ->, first deal <ms> ms
+        String frame = between(result, "first frame ", " ms");
+        return new long[] {frame.equals("-") ? -1 : Long.parseLong(frame), Long.parseLong(between(result, "first deal ", " ms"))};
+    }
+
+    // The text of a line between a label and the next occurrence of a suffix
+    private static String between(String line, String label, String suffix) {
+        int start = line.indexOf(label) + label.length();
+        int end = line.indexOf(suffix, start);
+        return line.substring(start, end < 0 ? line.indexOf(',', start) : end).trim();
+    }
+
+    // Dumps an AppCDS archive of the classes in a class list
+    private static void dump(String classList, String archive) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                                             "-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+                                             "-XX:SharedArchiveFile=" + archive,
+                                             "-cp", System.getProperty("java.class.path"))
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        int status = process.waitFor();
+        if (status != 0) {
+            throw new IllegalStateException("Error: dumping the archive exited with status " + status);
+        }
+    }
+
+    // Headless start: the game's background loading, then the first round dealt and taken
+    // for the view as the controller does, without showing it
+    private static void probe() {
+        Startup.begin();
+        CardImages.get();
+        BlackjackTable table = BlackJack.getTable();
+        table.deal();
+        new BlackjackView.TableState(table.getModel(), false, null, null);
+        Startup.firstDeal();
+    }
+}
@@ -0,0 +1,249 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**TableEventLog Class
+  * Append-only log of one table's round events, from which TableReplayer can rebuild
+  * any round or resume the table. Every few rounds a snapshot of the shoe (shuffle seed
+  * and position) is appended between rounds, so resuming only replays the tail after it.
+  * No snapshot is taken of a shoe that came from a reshuffle of the discards, which its seed
+  * and position alone cannot rebuild; until the next full shuffle, resuming goes back to
+  * the snapshot before it.
+  *
+  * The file starts with a 32-byte header holding the magic, the version and every rule of
+  * the table (see writeHeader()), followed by little-endian 16-byte entries: value
+  * (8 bytes), round number (4), event type (1), unused (1) and extra (2). Round numbers
+  * start at 1 and never decrease. Logs of version 1, whose 16-byte header only held the
+  * shoe, can still be replayed, under the default rules otherwise, but not appended to.
+  * @since  18/10/2026*/
+
+public class TableEventLog implements RoundEventListener, AutoCloseable {
+    static final int MAGIC = 0x56454A42;  // "BJEV" read as a little-endian int
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    static final int ENTRY_SIZE = 16;
+
+    private static final short VERSION_1 = 1;         // Shoe only in the header
+    private static final int VERSION_1_HEADER_SIZE = 16;
+
+    // Header fields after the magic and version
+    private static final int DECKS = 6;
+    private static final int PENETRATION = 8;
+    private static final int HIT_SOFT_17 = 16;
+    private static final int DOUBLE_AFTER_SPLIT = 17;
+    private static final int SURRENDER = 18;
+    private static final int MAX_HANDS = 19;
+    private static final int SEATS = 20;
+    private static final int BLACKJACK_WIN = 24;
+    private static final int BLACKJACK_BET = 28;
+
+    static final int VALUE = 0;
+    static final int ROUND = 8;
+    static final int TYPE = 12;
+    static final int EXTRA = 14;
+
+    private static final int BATCH_ENTRIES = 4096;  // Entries buffered before each write
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int snapshotInterval;   // Rounds between snapshots
+    private final boolean flushEachRound; // Whether every settled round is written out at once
+    private int round;                    // Number of the current round
+    private long seed;                    // Shoe state, tracked from the events for snapshots
+    private int position;
+    private boolean discardsShuffled;     // Whether the shoe came from a reshuffle of the discards
+
+    /**
+     * Opens the log of a table playing under the default rules from the given shoe,
+     * appending to it if it exists.
+     *
+     * @param file             the log file
+     * @param shoe             the table's shoe, whose size is recorded in the header
+     * @param snapshotInterval number of rounds between snapshots
+     * @param flushEachRound   whether to write each round out as soon as it is settled, so a
+     *                         crash loses at most the round in progress
+     * @throws IOException if the file cannot be opened or belongs to a different table
+     */
+    public TableEventLog(Path file, Shoe shoe, int snapshotInterval, boolean flushEachRound) throws IOException {
+        this(file, shoe, TableRules.DEFAULT, snapshotInterval, flushEachRound);
+    }
+
+    /**
+     * Opens the log of a table, appending to it if it exists.
+     *
+     * @param file             the log file
+     * @param shoe             the table's shoe, whose size and penetration are recorded in the header
+     * @param rules            the table's rules, recorded in the header
+     * @param snapshotInterval number of rounds between snapshots
+     * @param flushEachRound   whether to write each round out as soon as it is settled, so a
+     *                         crash loses at most the round in progress
+     * @throws IOException if the file cannot be opened or belongs to a different table
+     */
+    public TableEventLog(Path file, Shoe shoe, TableRules rules, int snapshotInterval, boolean flushEachRound) throws IOException {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("snapshot interval must be positive: " + snapshotInterval);
+        }
+        this.snapshotInterval = snapshotInterval;
+        this.flushEachRound = flushEachRound;
+        discardsShuffled = shoe.getCardsKept() > 0;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = ByteBuffer.allocateDirect(BATCH_ENTRIES * ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        ByteBuffer expected = writeHeader(rules.withDecks(shoe.getDecks()).withPenetration(shoe.getPenetration()));
+        if (channel.size() < HEADER_SIZE) {
+            channel.truncate(0);
+            channel.write(expected, 0);
+            channel.position(HEADER_SIZE);
+        } else {
+            ByteBuffer header = readHeader(channel);
+            if (header.getShort(4) != VERSION) {
+                throw new IllegalArgumentException("event log was written by an older version and cannot be appended to");
+            }
+            if (!header.equals(expected)) {
+                throw new IllegalArgumentException("event log was written for a different table");
+            }
+            long entries = (channel.size() - HEADER_SIZE) / ENTRY_SIZE;
+            channel.position(HEADER_SIZE + entries * ENTRY_SIZE);  // Drops a torn last entry
+            if (entries > 0) {
+                ByteBuffer last = ByteBuffer.allocate(ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(last, HEADER_SIZE + (entries - 1) * ENTRY_SIZE);
+                round = last.getInt(ROUND);
+            }
+        }
+    }
+
+    // The header of a log of a table with the given rules: after the magic and version,
+    // decks (2 bytes), penetration (8), whether the dealer hits soft 17, doubling after
+    // splits and surrender (1 each), split hands (1), seats (1), 3 unused bytes, and the
+    // blackjack payout ratio (4 and 4)
+    static ByteBuffer writeHeader(TableRules rules) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, MAGIC);
+        header.putShort(4, VERSION);
+        header.putShort(DECKS, (short) rules.getDecks());
+        header.putDouble(PENETRATION, rules.getPenetration());
+        header.put(HIT_SOFT_17, (byte) (rules.isHitSoft17() ? 1 : 0));
+        header.put(DOUBLE_AFTER_SPLIT, (byte) (rules.isDoubleAfterSplit() ? 1 : 0));
+        header.put(SURRENDER, (byte) (rules.isSurrender() ? 1 : 0));
+        header.put(MAX_HANDS, (byte) rules.getMaxHands());
+        header.put(SEATS, (byte) rules.getSeats());
+        header.putInt(BLACKJACK_WIN, rules.getPayouts().getBlackjackWin());
+        header.putInt(BLACKJACK_BET, rules.getPayouts().getBlackjackBet());
+        return header;
+    }
+
+    // Reads and checks the header of an event log, of either version
+    static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        header.clear();
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("not a table event log");
+        }
+        if (header.getShort(4) != VERSION && header.getShort(4) != VERSION_1) {
+            throw new IllegalArgumentException("unsupported event log version " + header.getShort(4));
+        }
+        return header;
+    }
+
+    // Size of a header read by readHeader(), where the entries start
+    static int headerSize(ByteBuffer header) {
+        return header.getShort(4) == VERSION_1 ? VERSION_1_HEADER_SIZE : HEADER_SIZE;
+    }
+
+    // The table's rules from a header read by readHeader(); a version 1 header only has the shoe's
+    static TableRules readRules(ByteBuffer header) {
+        TableRules rules = TableRules.DEFAULT.withDecks(header.getShort(DECKS)).withPenetration(header.getDouble(PENETRATION));
+        if (header.getShort(4) == VERSION_1) {
+            return rules;
+        }
+        return rules.withHitSoft17(header.get(HIT_SOFT_17) != 0)
+                    .withDoubleAfterSplit(header.get(DOUBLE_AFTER_SPLIT) != 0)
+                    .withSurrender(header.get(SURRENDER) != 0)
+                    .withMaxHands(header.get(MAX_HANDS))
+                    .withSeats(header.get(SEATS))
+                    .withPayouts(new Payouts(header.getInt(BLACKJACK_WIN), header.getInt(BLACKJACK_BET)));
+    }
+
+    public void onEvent(RoundEventType type, long value, int extra) {
+        switch (type) {
+            case SHUFFLE:
+                seed = value;
+                position = extra;  // After the cards kept on the table, if only the discards were reshuffled
+                discardsShuffled = extra > 0;
+                break;
+            case ROUND_START:
+                round++;
+                seed = value;
+                position = extra;
+                break;
+            case PLAYER_CARD:
+            case DEALER_CARD:
+            case HIT:
+            case DEALER_DRAW:
+                position++;
+                break;
+            default:
+                break;
+        }
+        append(type, value, extra);
+        if (type == RoundEventType.SETTLE && value == 0) {  // The first hand settles last
+            if (round % snapshotInterval == 0 && !discardsShuffled) {
+                append(RoundEventType.SNAPSHOT, seed, position);
+            }
+            if (flushEachRound) {
+                flushQuietly();
+            }
+        }
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Writes out every buffered entry.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void append(RoundEventType type, long value, int extra) {
+        int base = buffer.position();
+        buffer.putLong(base + VALUE, value);
+        buffer.putInt(base + ROUND, round);
+        buffer.put(base + TYPE, (byte) type.ordinal());
+        buffer.put(base + TYPE + 1, (byte) 0);
+        buffer.putShort(base + EXTRA, (short) extra);
+        buffer.position(base + ENTRY_SIZE);
+        if (!buffer.hasRemaining()) {
+            flushQuietly();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Error writing to table event log: " + e.getMessage());
+            buffer.clear();
+        }
+    }
+}
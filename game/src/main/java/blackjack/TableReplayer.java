@@ -0,0 +1,383 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**TableReplayer Class
+  * Rebuilds rounds from a table event log (see TableEventLog). Any past round can be
+  * replayed on its own, found by binary search on the round numbers, and a table can be
+  * resumed where the log ends by restoring the shoe from the last snapshot and replaying
+  * only the events after it. Cards are taken from the events rather than drawn, and each
+  * replayed round is checked against its recorded outcome.
+  * @since  18/10/2026*/
+
+public class TableReplayer implements AutoCloseable {
+    private static final RoundEventType[] TYPES = RoundEventType.values();
+    private static final RoundOutcome[] OUTCOMES = RoundOutcome.values();
+
+    // Entries per mapping, keeping each mapping under the 2 GB limit of a ByteBuffer
+    private static final long ENTRIES_PER_SEGMENT = (1L << 30) / TableEventLog.ENTRY_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long entryCount;
+    private final TableRules rules;     // Rules of the table the log was written for
+    private final boolean seatsLogged;  // Whether the rules give the seats; older logs only had the shoe
+    private final int headerSize;
+
+    /**
+     * Maps the whole log for reading.
+     *
+     * @param file the event log to read
+     * @throws IOException if the file cannot be read or is not an event log
+     */
+    public TableReplayer(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer header = TableEventLog.readHeader(channel);
+        rules = TableEventLog.readRules(header);
+        headerSize = TableEventLog.headerSize(header);
+        seatsLogged = headerSize == TableEventLog.HEADER_SIZE;
+        entryCount = (channel.size() - headerSize) / TableEventLog.ENTRY_SIZE;
+
+        int segmentCount = (int) ((entryCount + ENTRIES_PER_SEGMENT - 1) / ENTRIES_PER_SEGMENT);
+        segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long first = i * ENTRIES_PER_SEGMENT;
+            long entries = Math.min(ENTRIES_PER_SEGMENT, entryCount - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                                      headerSize + first * TableEventLog.ENTRY_SIZE,
+                                      entries * TableEventLog.ENTRY_SIZE);
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    // Number of rounds started in the log, the last one possibly unfinished
+    public int getRoundCount() {
+        return entryCount == 0 ? 0 : round(entryCount - 1);
+    }
+
+    /**
+     * Rebuilds one round as it stood when it was settled, or when the log ends if it never was.
+     *
+     * @param round number of the round, from 1
+     * @return a model holding the round's hands and the shoe as it was after the round
+     * @throws IllegalStateException if the round does not replay to its recorded outcome
+     */
+    public BlackjackModel replayRound(int round) {
+        long start = findRoundStart(round);
+        if (start < 0) {
+            throw new IllegalArgumentException("no round " + round + " in the log");
+        }
+        BlackjackModel model = new BlackjackModel(new Shoe(rules.getDecks(), rules.getPenetration()), rules(start), null, false);
+        replay(model, start);
+        return model;
+    }
+
+    /**
+     * Resumes the table where the log ends with every seat but the first played by basic
+     * strategy for the logged rules, as the game and the table server seat their bots.
+     *
+     * @param events listener of the resumed table, usually a TableEventLog appending to the
+     *               same file, which is only attached once the replay is done
+     * @return the resumed table
+     */
+    public BlackjackTable resume(RoundEventListener events) {
+        return resume(events, rules.getSeats() > 1 ? BasicStrategy.generate(rules) : null);
+    }
+
+    /**
+     * Resumes the table where the log ends. If the last round was never settled, the table
+     * holds that round so it can be finished, with any bot seats before the next human one
+     * already played; otherwise the next deal() starts a new one.
+     *
+     * @param events listener of the resumed table, usually a TableEventLog appending to the
+     *               same file, which is only attached once the replay is done
+     * @param bot    strategy of every seat but the first, or null to leave every seat to humans
+     * @return the resumed table
+     */
+    public BlackjackTable resume(RoundEventListener events, PlayerStrategy bot) {
+        BlackjackTable table = restore(events);
+        for (int seat = 1; seat < table.getRules().getSeats(); seat++) {
+            table.setBot(seat, bot);
+        }
+        table.playBots();
+        return table;
+    }
+
+    // Rebuilds the table where the log ends, with every seat human
+    private BlackjackTable restore(RoundEventListener events) {
+        Shoe shoe = new Shoe(rules.getDecks(), rules.getPenetration());
+        if (entryCount == 0) {
+            return new BlackjackTable(shoe, rules, events);
+        }
+
+        // Restart from the last snapshot, or from the beginning if there is none
+        long index = entryCount - 1;
+        while (index >= 0 && type(index) != RoundEventType.SNAPSHOT) {
+            index--;
+        }
+        long seed = 0;
+        int position = 0;
+        long shuffle = -1;  // The last shuffle, snapshots only being taken of whole shuffled shoes
+        long lastStart = -1;
+        boolean settled = true;
+        if (index >= 0) {
+            seed = value(index);
+            position = extra(index);
+        }
+        for (long i = index + 1; i < entryCount; i++) {
+            switch (type(i)) {
+                case SHUFFLE:
+                    seed = value(i);
+                    position = extra(i);
+                    shuffle = i;
+                    break;
+                case ROUND_START:
+                    seed = value(i);
+                    position = extra(i);
+                    lastStart = i;
+                    settled = false;
+                    break;
+                case PLAYER_CARD:
+                case DEALER_CARD:
+                case HIT:
+                case DEALER_DRAW:
+                    position++;
+                    break;
+                case SETTLE:
+                    settled = value(i) == 0;  // The first hand settles last
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (!settled) {
+            BlackjackModel model = new BlackjackModel(shoe, rules(lastStart), null, false);
+            replay(model, lastStart);
+            BlackjackTable table = new BlackjackTable(model);
+            table.setEventListener(events);
+            return table;
+        }
+        restoreShoe(shoe, shuffle, seed, position);
+        return new BlackjackTable(shoe, rules, events);
+    }
+
+    /**
+     * The rules of the table the log was written for, the default ones but for the shoe if
+     * the log is of the first version.
+     */
+    public TableRules getRules() {
+        return rules;
+    }
+
+    // Applies the events of the round starting at the given entry, leaving the shoe after them
+    private void replay(BlackjackModel model, long start) {
+        int round = round(start);
+        long seed = value(start);
+        int position = extra(start);
+        long shuffle = shuffleBefore(start);
+        model.restoreRoundStart(seed, position);
+        for (long i = start + 1; i < entryCount && round(i) == round; i++) {
+            switch (type(i)) {
+                case SHUFFLE:
+                    seed = value(i);
+                    position = extra(i);
+                    shuffle = i;
+                    break;
+                case PLAYER_CARD:
+                    if (model.getDealerCards().size() < 2) {
+                        model.restoreDealtCard(extra(i), (byte) value(i));  // Initial deal, to the seat in extra
+                    } else {
+                        model.restoreCard(true, (byte) value(i));
+                    }
+                    position++;
+                    break;
+                case HIT:
+                    model.restoreCard(true, (byte) value(i));
+                    position++;
+                    break;
+                case DEALER_CARD:
+                case DEALER_DRAW:
+                    model.restoreCard(false, (byte) value(i));
+                    position++;
+                    break;
+                case SPLIT:
+                    model.restoreSplit();
+                    break;
+                case NEXT_HAND:
+                    model.restoreNextHand(extra(i));
+                    break;
+                case SETTLE:
+                    if (OUTCOMES[extra(i)] != model.determineOutcome((int) value(i))) {
+                        throw new IllegalStateException("round " + round + " does not replay to its recorded outcome");
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        restoreShoe(model.getShoe(), shuffle, seed, position);
+        model.getShoe().restoreRoundStart(shuffle > start ? 0 : extra(start));
+    }
+
+    // Rebuilds the shoe dealt from since the given shuffle entry, or since the start of the
+    // log or a snapshot if -1; a reshuffle of the discards also needs the cards it left out
+    private void restoreShoe(Shoe shoe, long shuffle, long seed, int position) {
+        if (shuffle >= 0 && extra(shuffle) > 0) {
+            shoe.restore(seed, keptCards(shuffle), position);
+        } else {
+            shoe.restore(seed, position);
+        }
+    }
+
+    // The shuffle entry the shoe at the given entry was dealt from, or -1 if it was shuffled
+    // whole before the last snapshot or the start of the log
+    private long shuffleBefore(long index) {
+        for (long i = index - 1; i >= 0; i--) {
+            if (type(i) == RoundEventType.SHUFFLE) {
+                return i;
+            }
+            if (type(i) == RoundEventType.SNAPSHOT) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    // The cards a reshuffle of the discards left on the table: those dealt in its round before it
+    private byte[] keptCards(long shuffle) {
+        byte[] kept = new byte[extra(shuffle)];
+        int n = kept.length;
+        for (long i = shuffle - 1; n > 0; i--) {
+            switch (type(i)) {
+                case PLAYER_CARD:
+                case DEALER_CARD:
+                case HIT:
+                case DEALER_DRAW:
+                    kept[--n] = (byte) value(i);
+                    break;
+                case ROUND_START:
+                    throw new IllegalStateException("round " + round(i) + " has fewer cards than its reshuffle kept");
+                default:
+                    break;
+            }
+        }
+        return kept;
+    }
+
+    // Rules to replay the round starting at the given entry under; a log of the first version
+    // does not give the seats, which are counted from the round's initial deal
+    private TableRules rules(long start) {
+        return seatsLogged ? rules : rules.withSeats(seats(start));
+    }
+
+    // Seats dealt in the round starting at the given entry: the cards dealt before the dealer's first
+    private int seats(long start) {
+        int seats = 0;
+        for (long i = start + 1; i < entryCount && type(i) != RoundEventType.DEALER_CARD; i++) {
+            if (type(i) == RoundEventType.PLAYER_CARD) {
+                seats++;
+            }
+        }
+        return Math.max(1, seats);
+    }
+
+    // Index of the ROUND_START entry of a round, or -1; round numbers never decrease along the log
+    private long findRoundStart(int round) {
+        long low = 0;
+        long high = entryCount;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (round(mid) < round) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        while (low < entryCount && round(low) == round) {
+            if (type(low) == RoundEventType.ROUND_START) {
+                return low;
+            }
+            low++;
+        }
+        return -1;
+    }
+
+    private ByteBuffer segment(long index) {
+        return segments[(int) (index / ENTRIES_PER_SEGMENT)];
+    }
+
+    private int offset(long index) {
+        return (int) (index % ENTRIES_PER_SEGMENT) * TableEventLog.ENTRY_SIZE;
+    }
+
+    private long value(long index) {
+        return segment(index).getLong(offset(index) + TableEventLog.VALUE);
+    }
+
+    private int round(long index) {
+        return segment(index).getInt(offset(index) + TableEventLog.ROUND);
+    }
+
+    private RoundEventType type(long index) {
+        return TYPES[segment(index).get(offset(index) + TableEventLog.TYPE)];
+    }
+
+    private int extra(long index) {
+        return segment(index).getShort(offset(index) + TableEventLog.EXTRA) & 0xFFFF;
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Replays a round of an event log and prints its hands.
+     *
+     * @param args the event log, and the round number (the last round by default)
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TableReplayer <event log> [round]");
+            return;
+        }
+        try (TableReplayer replayer = new TableReplayer(Paths.get(args[0]))) {
+            int round = args.length > 1 ? Integer.parseInt(args[1]) : replayer.getRoundCount();
+            BlackjackModel model = replayer.replayRound(round);
+            System.out.println("Round " + round + " of " + replayer.getRoundCount()
+                               + " (shoe seed " + model.getRoundSeed() + ", position " + model.getRoundStart() + ")");
+            for (int i = 0; i < model.getHandCount(); i++) {
+                Hand hand = model.getPlayerCards(i);
+                String label;
+                if (model.getSeatCount() > 1) {
+                    int seat = model.getSeat(i);
+                    label = "Seat " + (seat + 1) + (model.getSeatHandCount(seat) > 1 ? " hand " + (i + 1) : "") + ": ";
+                } else {
+                    label = model.getHandCount() == 1 ? "Player: " : "Player hand " + (i + 1) + ": ";
+                }
+                System.out.println(label
+                                   + handToString(hand) + " = " + hand.getTotal() + " (" + model.determineOutcome(i) + ")");
+            }
+            System.out.println("Dealer: " + handToString(model.getDealerCards()) + " = " + model.getDealerSum());
+        }
+    }
+
+    private static String handToString(Hand hand) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < hand.size(); i++) {
+            text.append(i == 0 ? "" : " ").append(CardCode.toString(hand.get(i)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,205 @@
+package blackjack;
+
+import java.util.random.RandomGenerator;
+
+/**TableRules Class
+  * The rules a table is played under: shoe size and penetration, whether the dealer hits
+  * soft 17, the blackjack payout, doubling after splits, how many hands a player may split
+  * into, surrender, and how many seats share the shoe. Rules are immutable;
+  * each with...() method returns a copy with one rule changed. The dealer's rule is
+  * resolved to a DealerRule constant here, once, rather than checked while playing.
+  * Each rule is checked on its own as it is set; validate() checks those that depend on
+  * one another once all of them are, and whatever sets up a table calls it.
+  * @since  18/10/2026*/
+
+public final class TableRules {
+    /**
+     * The rules the game has always used: one deck, dealer stands on soft 17, blackjack pays 3:2,
+     * doubling after splits allowed, resplitting up to four hands, no surrender and one seat.
+     */
+    public static final TableRules DEFAULT = new TableRules(1, Shoe.DEFAULT_PENETRATION, DealerRule.STANDS_SOFT_17,
+                                                            Payouts.THREE_TO_TWO, true, 4, false, 1);
+
+    public static final int MAX_HANDS = 8;  // Most hands any table lets a player split into
+    public static final int MAX_SEATS = 7;  // Most seats at a table
+
+    // Cards left behind the cut card for each seat and for the dealer. A round averages under
+    // three cards a hand, so a round started just before the cut card practically never runs
+    // the shoe out; if one does, only the discards are reshuffled (see Shoe.draw())
+    public static final int CARDS_PER_SEAT = 5;
+
+    private final int decks;               // Decks in the shoe
+    private final double penetration;      // Share of the shoe dealt before reshuffling
+    private final DealerRule dealerRule;   // When the dealer draws
+    private final Payouts payouts;         // How wins are paid
+    private final boolean doubleAfterSplit; // Whether split hands may be doubled
+    private final int maxHands;            // Most hands a player may split into; 1 forbids splitting
+    private final boolean surrender;       // Whether the player may give up a hand for half the bet, unless the dealer has blackjack
+    private final int seats;               // Seats dealt in every round, played in order from the first
+
+    private TableRules(int decks, double penetration, DealerRule dealerRule, Payouts payouts,
+                       boolean doubleAfterSplit, int maxHands, boolean surrender, int seats) {
+        if (decks < Shoe.MIN_DECKS || decks > Shoe.MAX_DECKS) {
+            throw new IllegalArgumentException("decks must be between " + Shoe.MIN_DECKS + " and " + Shoe.MAX_DECKS + ": " + decks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("penetration must be above 0 and at most 1: " + penetration);
+        }
+        if (maxHands < 1 || maxHands > MAX_HANDS) {
+            throw new IllegalArgumentException("hands must be between 1 and " + MAX_HANDS + ": " + maxHands);
+        }
+        if (seats < 1 || seats > MAX_SEATS) {
+            throw new IllegalArgumentException("seats must be between 1 and " + MAX_SEATS + ": " + seats);
+        }
+        this.decks = decks;
+        this.penetration = penetration;
+        this.dealerRule = dealerRule;
+        this.payouts = payouts;
+        this.doubleAfterSplit = doubleAfterSplit;
+        this.maxHands = maxHands;
+        this.surrender = surrender;
+        this.seats = seats;
+    }
+
+    /**
+     * Reads the rules from system properties, defaulting to DEFAULT: -Dblackjack.decks=6,
+     * -Dblackjack.penetration=0.8, -Dblackjack.h17=true, -Dblackjack.payout=6:5,
+     * -Dblackjack.das=false, -Dblackjack.hands=2, -Dblackjack.surrender=true and -Dblackjack.seats=5.
+     * The rules are not validated, since the caller may still change some of them.
+     */
+    public static TableRules fromSystemProperties() {
+        TableRules rules = DEFAULT.withDecks(Integer.getInteger("blackjack.decks", DEFAULT.decks))
+                                  .withPenetration(Double.parseDouble(System.getProperty("blackjack.penetration", String.valueOf(DEFAULT.penetration))))
+                                  .withHitSoft17(Boolean.getBoolean("blackjack.h17"))
+                                  .withDoubleAfterSplit(Boolean.parseBoolean(System.getProperty("blackjack.das", "true")))
+                                  .withMaxHands(Integer.getInteger("blackjack.hands", DEFAULT.maxHands))
+                                  .withSurrender(Boolean.getBoolean("blackjack.surrender"))
+                                  .withSeats(Integer.getInteger("blackjack.seats", DEFAULT.seats));
+        String payout = System.getProperty("blackjack.payout");
+        if (payout != null) {
+            String[] ratio = payout.split(":");
+            if (ratio.length != 2) {
+                throw new IllegalArgumentException("blackjack.payout must look like 3:2: " + payout);
+            }
+            rules = rules.withPayouts(new Payouts(Integer.parseInt(ratio[0].trim()), Integer.parseInt(ratio[1].trim())));
+        }
+        return rules;
+    }
+
+    /**
+     * Checks that the seats leave enough cards behind the cut card for a round, which
+     * depends on the decks and penetration as well, so more seats need more decks or a lower
+     * penetration. Call it once every rule is set.
+     *
+     * @return these rules
+     * @throws IllegalArgumentException if the shoe is too small for the seats
+     */
+    public TableRules validate() {
+        int size = decks * CardCode.DECK_SIZE;
+        int reserve = size - Shoe.cutCard(size, penetration);
+        if (reserve < (seats + 1) * CARDS_PER_SEAT) {
+            throw new IllegalArgumentException(seats + (seats == 1 ? " seat needs " : " seats need ") + (seats + 1) * CARDS_PER_SEAT
+                                               + " cards behind the cut card but the shoe leaves " + reserve + " (" + decks
+                                               + (decks == 1 ? " deck" : " decks") + " at " + penetration
+                                               + " penetration): use more decks or a lower penetration");
+        }
+        return this;
+    }
+
+    public TableRules withDecks(int decks) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withPenetration(double penetration) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withHitSoft17(boolean hitSoft17) {
+        return new TableRules(decks, penetration, hitSoft17 ? DealerRule.HITS_SOFT_17 : DealerRule.STANDS_SOFT_17,
+                              payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withPayouts(Payouts payouts) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withDoubleAfterSplit(boolean doubleAfterSplit) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withMaxHands(int maxHands) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withSurrender(boolean surrender) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    public TableRules withSeats(int seats) {
+        return new TableRules(decks, penetration, dealerRule, payouts, doubleAfterSplit, maxHands, surrender, seats);
+    }
+
+    /**
+     * Opens a freshly shuffled shoe of the table's size and penetration, shuffled from the
+     * source named by -Dblackjack.seed or -Dblackjack.shuffle (see ShuffleSource).
+     */
+    public Shoe newShoe() {
+        return new Shoe(decks, penetration, ShuffleSource.generatorFromSystemProperties());
+    }
+
+    /**
+     * Same as above, shuffling with the given generator.
+     */
+    public Shoe newShoe(RandomGenerator random) {
+        return new Shoe(decks, penetration, random);
+    }
+
+    public int getDecks() {
+        return decks;
+    }
+
+    public double getPenetration() {
+        return penetration;
+    }
+
+    public DealerRule getDealerRule() {
+        return dealerRule;
+    }
+
+    public boolean isHitSoft17() {
+        return dealerRule == DealerRule.HITS_SOFT_17;
+    }
+
+    public Payouts getPayouts() {
+        return payouts;
+    }
+
+    public boolean isDoubleAfterSplit() {
+        return doubleAfterSplit;
+    }
+
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    public boolean isSurrender() {
+        return surrender;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Describes the rules briefly, e.g. "6 decks, H17, 3:2, DAS, surrender", naming the
+     * number of split hands only when it differs from the default, and the seats when there
+     * are more than one.
+     */
+    public String toString() {
+        return decks + (decks == 1 ? " deck, " : " decks, ") + dealerRule + ", " + payouts
+             + (doubleAfterSplit ? ", DAS" : ", no DAS")
+             + (maxHands == 1 ? ", no splits" : maxHands != DEFAULT.maxHands ? ", split to " + maxHands : "")
+             + (surrender ? ", surrender" : "")
+             + (seats > 1 ? ", " + seats + " seats" : "");
+    }
+}
@@ -0,0 +1,190 @@
+package blackjack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**TableServer Class
+  * Hosts blackjack tables over a local socket, one table and one thread per connection.
+  * On runtimes with virtual threads every session gets its own virtual thread, so
+  * thousands of tables can be open at once; older runtimes fall back to platform threads.
+  *
+  * The protocol is line based. The client sends DEAL, HIT, STAND, SPLIT or QUIT and every
+  * command is answered with one line:
+  * <pre>
+  *   PLAYING  &lt;player total&gt; &lt;dealer upcard value&gt; -
+  *   FINISHED &lt;player total&gt; &lt;dealer total&gt; &lt;RoundOutcome&gt;
+  *   ERROR    &lt;message&gt;
+  * </pre>
+  * While playing, the player total is that of the hand being played. After a split, HIT
+  * and STAND act on each hand in turn, and FINISHED is followed by the total and outcome
+  * of every further hand.
+  *
+  * When the rules have several seats (-Dblackjack.seats), the client plays the first seat
+  * and bots playing basic strategy fill the others, drawing from the same shoe on the
+  * session's thread. Replies describe the client's hands only.
+  * @since  18/10/2026*/
+
+public class TableServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7777;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final TableRules rules;  // Rules of every table served
+    private final PlayerStrategy bot;  // Strategy of the bots in every seat after the first, or null with one seat
+
+    /**
+     * Starts listening on the loopback interface.
+     *
+     * @param port  the port to listen on, or 0 for any free port
+     * @param decks number of decks in each table's shoe
+     * @throws IOException if the port cannot be opened
+     */
+    public TableServer(int port, int decks) throws IOException {
+        this(port, TableRules.DEFAULT.withDecks(decks));
+    }
+
+    /**
+     * Starts listening on the loopback interface.
+     *
+     * @param port  the port to listen on, or 0 for any free port
+     * @param rules the rules of every table
+     * @throws IOException if the port cannot be opened
+     * @throws IllegalArgumentException if the rules do not validate
+     */
+    public TableServer(int port, TableRules rules) throws IOException {
+        rules.validate();
+        serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+        sessions = newSessionExecutor();
+        this.rules = rules;
+        this.bot = rules.getSeats() > 1 ? BasicStrategy.generate(rules) : null;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a session for each.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                sessions.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runSession(socket);
+                    }
+                });
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Error accepting table connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    public void close() throws IOException {
+        serverSocket.close();
+        sessions.shutdownNow();
+    }
+
+    // Plays one table for one connection until the client quits or disconnects
+    private void runSession(Socket socket) {
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.US_ASCII))) {
+            s.setTcpNoDelay(true);
+            BlackjackTable table = new BlackjackTable(rules, null);
+            for (int seat = 1; seat < rules.getSeats(); seat++) {
+                table.setBot(seat, bot);
+            }
+            StringBuilder reply = new StringBuilder(64);
+            String command;
+            while ((command = in.readLine()) != null) {
+                reply.setLength(0);
+                try {
+                    switch (command.trim()) {
+                        case "DEAL":
+                            table.deal();
+                            break;
+                        case "HIT":
+                            table.hit();
+                            break;
+                        case "STAND":
+                            table.stand();
+                            break;
+                        case "SPLIT":
+                            table.split();
+                            break;
+                        case "QUIT":
+                            return;
+                        default:
+                            throw new IllegalArgumentException("unknown command " + command);
+                    }
+                    describe(table, reply);
+                } catch (IllegalStateException | IllegalArgumentException e) {
+                    reply.append("ERROR ").append(e.getMessage());
+                }
+                send(out, reply);
+            }
+        } catch (IOException e) {
+            // The client went away; its table goes with it
+        }
+    }
+
+    private static void describe(BlackjackTable table, StringBuilder reply) {
+        BlackjackModel model = table.getModel();
+        if (table.isRoundOver()) {
+            reply.append("FINISHED ").append(model.getPlayerCards(0).getTotal()).append(' ').append(model.getDealerSum())
+                 .append(' ').append(table.getOutcome().name());
+            for (int i = 1; i < model.getSeatHandCount(0); i++) {  // The client's hands come first
+                reply.append(' ').append(model.getPlayerCards(i).getTotal()).append(' ').append(model.determineOutcome(i).name());
+            }
+        } else {
+            reply.append("PLAYING ").append(model.getPlayerSum()).append(' ')
+                 .append(CardCode.value(model.getDealerCards().get(0))).append(" -");
+        }
+    }
+
+    private static void send(Writer out, CharSequence reply) throws IOException {
+        out.append(reply).append('\n');
+        out.flush();
+    }
+
+    /**
+     * Creates an executor that runs every task on a new virtual thread when the runtime
+     * supports them (Java 21 and later), or on a cached pool of platform threads otherwise.
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Runs the server from the command line.
+     *
+     * @param args optional port and number of decks per shoe; the other rules are read from
+     *             system properties as in TableRules.fromSystemProperties()
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int decks = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        TableServer server = new TableServer(port, TableRules.fromSystemProperties().withDecks(decks));
+        System.out.println("Serving blackjack tables on port " + server.getPort());
+        server.serve();
+    }
+}
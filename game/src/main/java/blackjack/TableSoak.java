@@ -0,0 +1,138 @@
+package blackjack;
+
+import java.awt.Frame;
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Semaphore;
+import javax.swing.SwingUtilities;
+
+/**TableSoak Class
+  * Soak test of the table lifecycle: plays many rounds on one table, the way a kiosk does
+  * over a long session, and fails unless the heap stays bounded and no frames pile up.
+  * With a display, the rounds go through the real view and controller (the player stands
+  * every round, and cards are not animated unless -Dblackjack.animate is set); headless,
+  * through the table and result log alone. Results are logged to a temporary file unless
+  * -Dblackjack.results is set.
+  * @since  18/10/2026*/
+
+public class TableSoak {
+    private static final int SAMPLES = 10;  // Heap and frame checks over the run
+
+    /**
+     * Runs the soak test, exiting with status 1 if it fails.
+     *
+     * @param args optional number of rounds (100000 by default) and allowed heap growth in MB (16 by default)
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, InvocationTargetException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long allowedGrowth = (args.length > 1 ? Long.parseLong(args[1]) : 16) * 1024 * 1024;
+        if (System.getProperty("blackjack.results") == null) {
+            File results = File.createTempFile("soak_results", ".txt");
+            results.deleteOnExit();
+            System.setProperty("blackjack.results", results.getPath());
+        }
+
+        Soak soak = GraphicsEnvironment.isHeadless() ? new HeadlessSoak() : new SwingSoak();
+        int warmup = Math.max(1, rounds / SAMPLES);
+        soak.play(warmup);
+        long baseline = usedHeap();
+        long peak = baseline;
+        int maxFrames = 0;
+        long start = System.nanoTime();
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            soak.play(rounds / SAMPLES);
+            peak = Math.max(peak, usedHeap());
+            maxFrames = Math.max(maxFrames, Frame.getFrames().length);
+        }
+        long elapsed = System.nanoTime() - start;
+        GameResultLog.getDefault().flush();
+
+        System.out.println("Rounds: " + (rounds / SAMPLES * SAMPLES) + (GraphicsEnvironment.isHeadless() ? " (headless)" : " (through the view)"));
+        System.out.printf("Round transitions per second: %.0f%n", rounds / (elapsed / 1e9));
+        System.out.printf("Heap after warm-up: %.1f MB, peak: %.1f MB%n", baseline / 1048576.0, peak / 1048576.0);
+        System.out.println("Frames: " + maxFrames);
+        boolean failed = false;
+        if (peak - baseline > allowedGrowth) {
+            System.err.println("Error: heap grew by " + (peak - baseline) / 1024 + " KB over the run");
+            failed = true;
+        }
+        if (maxFrames > 1) {
+            System.err.println("Error: " + maxFrames + " frames were open at once");
+            failed = true;
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    // Heap in use after a full collection
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private interface Soak {
+        void play(int rounds) throws InterruptedException, InvocationTargetException;
+    }
+
+    // Plays through the session's table and the result log, as the controller does
+    private static class HeadlessSoak implements Soak {
+        private final BlackjackTable table = new BlackjackTable(new Shoe(6, Shoe.DEFAULT_PENETRATION));
+
+        public void play(int rounds) {
+            for (int i = 0; i < rounds; i++) {
+                table.deal();
+                while (!table.isRoundOver() && table.getModel().getPlayerSum() < 17) {
+                    table.hit();
+                }
+                if (!table.isRoundOver()) {
+                    table.stand();
+                }
+                table.getModel().logGameResult();
+            }
+        }
+    }
+
+    // Plays through one view and controller, waiting for each round to be shown as over
+    private static class SwingSoak implements Soak {
+        private final Semaphore roundsOver = new Semaphore(0);
+        private BlackJackController controller;
+        private boolean first = true;  // The controller deals its first round itself
+
+        SwingSoak() throws InterruptedException, InvocationTargetException {
+            if (System.getProperty("blackjack.animate") == null) {
+                System.setProperty("blackjack.animate", "false");  // Rounds as fast as they can be shown
+            }
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    BlackjackView view = new BlackjackView();
+                    controller = new BlackJackController(new BlackjackTable(new Shoe(6, Shoe.DEFAULT_PENETRATION)), view, new Runnable() {
+                        @Override
+                        public void run() {
+                            roundsOver.release();
+                        }
+                    });
+                }
+            });
+        }
+
+        public void play(int rounds) throws InterruptedException, InvocationTargetException {
+            for (int i = 0; i < rounds; i++) {
+                final boolean deal = !first;
+                first = false;
+                SwingUtilities.invokeAndWait(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (deal) {
+                            controller.nextRound();
+                        }
+                        controller.dealerPlays();  // Runs after the deal on the game thread
+                    }
+                });
+                roundsOver.acquire();
+            }
+        }
+    }
+}
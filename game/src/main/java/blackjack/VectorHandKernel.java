@@ -0,0 +1,49 @@
+package blackjack;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**VectorHandKernel Class
+  * The Vector API path of BatchHandEvaluator, kept in its own class so nothing refers to
+  * jdk.incubator.vector unless the module is present.
+  * @since  18/10/2026*/
+
+final class VectorHandKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private VectorHandKernel() {
+    }
+
+    // Whether whole vectors tile the padded lanes of a batch
+    static boolean fitsPadding() {
+        return HandBatch.PAD % SPECIES.length() == 0;
+    }
+
+    static void evaluate(HandBatch batch) {
+        int lanes = batch.lanes();  // A multiple of HandBatch.PAD, which fitsPadding() found the species divides
+        int columns = batch.columns();
+        for (int i = 0; i < lanes; i += SPECIES.length()) {
+            ByteVector hard = ByteVector.zero(SPECIES);
+            ByteVector aces = ByteVector.zero(SPECIES);
+            for (int k = 0; k < columns; k++) {
+                ByteVector value = ByteVector.fromArray(SPECIES, batch.values[k], i);
+                hard = hard.add(value);
+                aces = aces.add((byte) 1, value.eq((byte) 1));
+            }
+            VectorMask<Byte> soft = aces.compare(VectorOperators.GT, (byte) 0)
+                                        .and(hard.compare(VectorOperators.LE, (byte) 11));
+            ByteVector total = hard.add((byte) 10, soft);
+            VectorMask<Byte> bust = hard.compare(VectorOperators.GT, (byte) 21);
+            VectorMask<Byte> blackjack = ByteVector.fromArray(SPECIES, batch.counts, i).eq((byte) 2)
+                                                   .and(total.eq((byte) 21));
+            ByteVector flags = ByteVector.zero(SPECIES)
+                                         .add(HandBatch.SOFT, soft)
+                                         .add(HandBatch.BUST, bust)
+                                         .add(HandBatch.BLACKJACK, blackjack);
+            total.intoArray(batch.totals, i);
+            flags.intoArray(batch.flags, i);
+        }
+    }
+}
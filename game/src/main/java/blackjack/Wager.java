@@ -0,0 +1,86 @@
+package blackjack;
+
+/**Wager Class
+  * The money on one player hand, in integer minor units (e.g. cents): the stake, whether it
+  * was doubled or surrendered, whether the hand came from a split, and any insurance.
+  * A wager is reset with place() every round, so settling millions of hands allocates nothing.
+  * @since  18/10/2026*/
+
+public class Wager {
+    private long bet;            // Money riding on the hand, doubled by doubleDown()
+    private long insurance;      // Side bet against a dealer blackjack, or 0
+    private boolean doubled;     // The bet was doubled for exactly one more card
+    private boolean surrendered; // The hand was given up for half the bet
+    private boolean split;       // The hand came from a split, so two-card 21 is not a blackjack
+
+    /**
+     * Places a new bet, clearing everything about the previous hand.
+     *
+     * @param bet the stake in minor units
+     */
+    public void place(long bet) {
+        if (bet <= 0) {
+            throw new IllegalArgumentException("bet must be positive: " + bet);
+        }
+        this.bet = bet;
+        insurance = 0;
+        doubled = false;
+        surrendered = false;
+        split = false;
+    }
+
+    /**
+     * Doubles the stake; the hand then takes exactly one more card.
+     */
+    public void doubleDown() {
+        if (doubled || surrendered) {
+            throw new IllegalStateException("hand already doubled or surrendered");
+        }
+        bet *= 2;
+        doubled = true;
+    }
+
+    /**
+     * Gives the hand up for half the stake.
+     */
+    public void surrender() {
+        if (doubled || surrendered) {
+            throw new IllegalStateException("hand already doubled or surrendered");
+        }
+        surrendered = true;
+    }
+
+    /**
+     * Takes insurance for half the stake, rounded down to a whole minor unit.
+     */
+    public void insure() {
+        insurance = bet / 2;
+    }
+
+    /**
+     * Marks the hand as one of the hands of a split, placed with the original stake.
+     */
+    public void markSplit() {
+        split = true;
+    }
+
+    public long getBet() {
+        return bet;
+    }
+
+    public long getInsurance() {
+        return insurance;
+    }
+
+    public boolean isDoubled() {
+        return doubled;
+    }
+
+    public boolean isSurrendered() {
+        return surrendered;
+    }
+
+    public boolean isSplit() {
+        return split;
+    }
+}